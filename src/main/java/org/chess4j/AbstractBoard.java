@@ -0,0 +1,92 @@
+package org.chess4j;
+
+import java.util.AbstractMap;
+import java.util.function.Predicate;
+
+import org.chess4j.pieces.Piece;
+
+/**
+ * This class provides a skeletal implementation of the {@link Board} interface.
+ * All implementations share the visual string representation of a board and
+ * the filtered views returned by {@link #filter(Predicate)}.
+ */
+abstract class AbstractBoard extends AbstractMap<Tile, Piece> implements Board {
+
+    /*
+     * Column declaration for printing the board.
+     */
+    private static final String COLUMN_DECLARATION = "\t A\t B\t C\t D\t E\t F\t G\t H";
+
+    /*
+     * New line character
+     */
+    private static final String NEW_LINE = String.format("%n");
+
+    /**
+     * The number of times this board has been modified. Views that cache values
+     * derived from this board compare it in order to detect stale values.
+     */
+    transient int modCount;
+
+    /**
+     * Returns view of all pieces that test {@code true} to the given predicate.
+     * The view is backed by this board and later modifications of this board are
+     * reflected on the view.
+     *
+     * @param predicate the predicate all mappings of the submap must fulfill.
+     * @return a submap view of all pieces on the board that test positive to the
+     *         given predicate.
+     */
+    @Override
+    public Board filter(Predicate<Piece> predicate) {
+        return new FilteredBoard(this, predicate);
+    }
+
+    /**
+     * Returns {@code true} if the content of this board can never change. Views
+     * and copies of an immutable board may share its storage.
+     *
+     * @return {@code true} if this board is immutable.
+     */
+    boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return boardAsString(this);
+    }
+
+    /**
+     * Prints the given board onto the console.
+     *
+     * @param board the given board.
+     */
+    static String boardAsString(Board board) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(COLUMN_DECLARATION);
+        sb.append(NEW_LINE);
+        sb.append(NEW_LINE);
+        for (Tile tile : Tile.values()) {
+            if (tile.column() == 1) {
+                sb.append(String.format("%d\t", tile.row()));
+            }
+            if (board.containsKey(tile)) {
+                sb.append(String.format("[%s]\t", board.get(tile)));
+            } else {
+                sb.append(String.format("[ ]\t"));
+            }
+            if (tile.column() == 8) {
+                sb.append(String.format(" %d", tile.row()));
+                sb.append(NEW_LINE);
+                sb.append(NEW_LINE);
+            }
+        }
+        sb.append(COLUMN_DECLARATION);
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,435 @@
+package org.chess4j;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.chess4j.Player.Color;
+import org.chess4j.pieces.Bishop;
+import org.chess4j.pieces.King;
+import org.chess4j.pieces.Knight;
+import org.chess4j.pieces.Pawn;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+import org.chess4j.pieces.Queen;
+import org.chess4j.pieces.Rook;
+
+/**
+ * A Board implementation that is backed by bitboards. For each combination of
+ * piece color and piece type a {@code long} mask is kept in which bit {@code i}
+ * is set if the tile with ordinal {@code i} holds such a piece. Additionally an
+ * occupancy mask per color and for the whole board is maintained. The pieces
+ * themselves are kept in an array indexed by tile ordinal, so that
+ * {@link #get(Object)} and {@link #containsKey(Object)} are simple array
+ * lookups. The masks are the canonical content of the board, the piece objects
+ * merely adapt them to the {@link Board} interface.
+ * <p>
+ * Copying a bitboard board amounts to copying a dozen longs and one array
+ * instead of rebuilding a map, which is why {@link Board#copy(Board)} and
+ * {@link Board#newGame()} return instances of this class.
+ */
+public final class BitboardBoard extends AbstractBoard {
+
+    /*
+     * The number of tiles.
+     */
+    private static final int SQUARES = Tile.values().length;
+
+    /*
+     * The number of piece types.
+     */
+    private static final int TYPES = Type.values().length;
+
+    /**
+     * One mask per piece color and type indexed by {@link Piece#code()}.
+     */
+    private final long[] pieces;
+
+    /**
+     * One occupancy mask per color indexed by the ordinal of the color.
+     */
+    private final long[] colors;
+
+    /**
+     * The occupancy mask of the whole board.
+     */
+    private long occupied;
+
+    /**
+     * The Zobrist key of the piece placement which is updated with every
+     * modification.
+     */
+    private long key;
+
+    /**
+     * The pieces indexed by tile ordinal.
+     */
+    private final Piece[] squares;
+
+    /**
+     * The number of pieces on the board.
+     */
+    private int size;
+
+    /**
+     * Flag indicating whether this board rejects modifications.
+     */
+    private final boolean unmodifiable;
+
+    /**
+     * Constructor instantiates an empty board.
+     */
+    public BitboardBoard() {
+        this(false);
+    }
+
+    /**
+     * Creates a board with all the mappings as in the given board.
+     *
+     * @param board the board that is used as template.
+     */
+    public BitboardBoard(Map<Tile, Piece> board) {
+        this(board, false);
+    }
+
+    // Private constructor for an empty board.
+    private BitboardBoard(boolean unmodifiable) {
+        this.pieces = new long[TYPES * Color.values().length];
+        this.colors = new long[Color.values().length];
+        this.squares = new Piece[SQUARES];
+        this.unmodifiable = unmodifiable;
+    }
+
+    // Private constructor that copies the given board.
+    private BitboardBoard(Map<Tile, Piece> board, boolean unmodifiable) {
+        Objects.requireNonNull(board);
+        this.unmodifiable = unmodifiable;
+        if (board instanceof UnmodifiableBoard) {
+            board = ((UnmodifiableBoard) board).backing();
+        }
+        if (board instanceof BitboardBoard) {
+            BitboardBoard other = (BitboardBoard) board;
+            this.pieces = other.pieces.clone();
+            this.colors = other.colors.clone();
+            this.squares = other.squares.clone();
+            this.occupied = other.occupied;
+            this.key = other.key;
+            this.size = other.size;
+        } else {
+            this.pieces = new long[TYPES * Color.values().length];
+            this.colors = new long[Color.values().length];
+            this.squares = new Piece[SQUARES];
+            for (Entry<Tile, Piece> entry : board.entrySet()) {
+                place(Objects.requireNonNull(entry.getKey()), Objects.requireNonNull(entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Associates the given piece with the given tile. If there was previously a
+     * piece associated with the tile, then this piece is returned.
+     *
+     * @return the previously associated mapping or {@code null} if none is present.
+     * @throws NullPointerException          if the key or value is {@code null}.
+     * @throws UnsupportedOperationException if the board is unmodifiable.
+     */
+    @Override
+    public Piece put(Tile key, Piece value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        checkModifiable();
+        return place(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if the board is unmodifiable.
+     */
+    @Override
+    public Piece remove(Object key) {
+        checkModifiable();
+        return key instanceof Tile ? displace(((Tile) key).ordinal()) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if the board is unmodifiable.
+     */
+    @Override
+    public void clear() {
+        checkModifiable();
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(colors, 0L);
+        Arrays.fill(squares, null);
+        occupied = 0L;
+        key = 0L;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Piece get(Object key) {
+        return key instanceof Tile ? squares[((Tile) key).ordinal()] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Tile && squares[((Tile) key).ordinal()] != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<Tile, Piece>> entrySet() {
+        return new AbstractSet<Entry<Tile, Piece>>() {
+
+            @Override
+            public Iterator<Entry<Tile, Piece>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The key is maintained incrementally with every modification of the board.
+     */
+    @Override
+    public long zobristKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long occupied() {
+        return occupied;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long occupied(Color color) {
+        return colors[color.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long pieces(Color color, Type type) {
+        return pieces[Piece.code(color, type)];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two bitboard boards are compared by their Zobrist keys first and then by
+     * their masks, which hold the color and type of every piece. The piece
+     * objects themselves are not compared.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof BitboardBoard) {
+            BitboardBoard other = (BitboardBoard) o;
+            return key == other.key && Arrays.equals(pieces, other.pieces);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given Board. Changes on the returned
+     * Board are not reflected on this instance. As an unmodifiable bitboard
+     * board can never change it is returned as is instead of being copied.
+     *
+     * @param board the given board.
+     * @return an unmodifiable board.
+     */
+    static Board copy(Board board) {
+        if (board instanceof BitboardBoard && ((BitboardBoard) board).unmodifiable) {
+            return board;
+        }
+        return new BitboardBoard(board, true);
+    }
+
+    /**
+     * Returns a new fully setup board.
+     *
+     * @return a new setup board.
+     */
+    static Board newGame() {
+        BitboardBoard position = new BitboardBoard();
+
+        // Put white Pieces on Board
+        // First Row
+        position.put(Tile.a1, Rook.white());
+        position.put(Tile.b1, Knight.white());
+        position.put(Tile.c1, Bishop.white());
+        position.put(Tile.d1, Queen.white());
+        position.put(Tile.e1, King.white());
+        position.put(Tile.f1, Bishop.white());
+        position.put(Tile.g1, Knight.white());
+        position.put(Tile.h1, Rook.white());
+
+        // Second Row of Pawns
+        position.put(Tile.a2, Pawn.white());
+        position.put(Tile.b2, Pawn.white());
+        position.put(Tile.c2, Pawn.white());
+        position.put(Tile.d2, Pawn.white());
+        position.put(Tile.e2, Pawn.white());
+        position.put(Tile.f2, Pawn.white());
+        position.put(Tile.g2, Pawn.white());
+        position.put(Tile.h2, Pawn.white());
+
+        // Put black Pieces on Board
+        // First Row
+        position.put(Tile.a8, Rook.black());
+        position.put(Tile.b8, Knight.black());
+        position.put(Tile.c8, Bishop.black());
+        position.put(Tile.d8, Queen.black());
+        position.put(Tile.e8, King.black());
+        position.put(Tile.f8, Bishop.black());
+        position.put(Tile.g8, Knight.black());
+        position.put(Tile.h8, Rook.black());
+
+        // Second Row of Pawns
+        position.put(Tile.a7, Pawn.black());
+        position.put(Tile.b7, Pawn.black());
+        position.put(Tile.c7, Pawn.black());
+        position.put(Tile.d7, Pawn.black());
+        position.put(Tile.e7, Pawn.black());
+        position.put(Tile.f7, Pawn.black());
+        position.put(Tile.g7, Pawn.black());
+        position.put(Tile.h7, Pawn.black());
+
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean isImmutable() {
+        return unmodifiable;
+    }
+
+    /*
+     * Places the piece on the tile and updates all masks. Returns the piece that
+     * was previously placed on the tile.
+     */
+    private Piece place(Tile tile, Piece piece) {
+        int square = tile.ordinal();
+        Piece previous = displace(square);
+        long bit = 1L << square;
+        int index = piece.code();
+        pieces[index] |= bit;
+        colors[piece.color().ordinal()] |= bit;
+        occupied |= bit;
+        key ^= Zobrist.piece(index, square);
+        squares[square] = piece;
+        size++;
+        modCount++;
+        return previous;
+    }
+
+    /*
+     * Removes the piece from the square and updates all masks. Returns the
+     * removed piece or null if the square was empty.
+     */
+    private Piece displace(int square) {
+        Piece piece = squares[square];
+        if (piece != null) {
+            long bit = ~(1L << square);
+            int index = piece.code();
+            pieces[index] &= bit;
+            colors[piece.color().ordinal()] &= bit;
+            occupied &= bit;
+            key ^= Zobrist.piece(index, square);
+            squares[square] = null;
+            size--;
+            modCount++;
+        }
+        return piece;
+    }
+
+    /*
+     * Throws an UnsupportedOperationException if the board is unmodifiable.
+     */
+    private void checkModifiable() {
+        if (unmodifiable) {
+            throw new UnsupportedOperationException("The board is unmodifiable.");
+        }
+    }
+
+    /**
+     * Iterates over all occupied tiles in ordinal order.
+     */
+    private final class EntryIterator implements Iterator<Entry<Tile, Piece>> {
+
+        /**
+         * The occupied squares that have not been returned yet.
+         */
+        private long remaining = occupied;
+
+        /**
+         * The square returned last or -1 if there is none.
+         */
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0L;
+        }
+
+        @Override
+        public Entry<Tile, Piece> next() {
+            if (remaining == 0L) {
+                throw new NoSuchElementException();
+            }
+            last = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            return new SimpleImmutableEntry<>(Tile.ofOrdinal(last), squares[last]);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            BitboardBoard.this.remove(Tile.ofOrdinal(last));
+            last = -1;
+        }
+    }
+}
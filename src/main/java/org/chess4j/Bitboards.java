@@ -0,0 +1,381 @@
+package org.chess4j;
+
+import org.chess4j.Player.Color;
+
+/**
+ * Precomputed geometry of the chess board as bitboards. A bitboard is a
+ * {@code long} in which bit {@code i} stands for the tile with ordinal
+ * {@code i}, see {@link Tile#mask()}. All tables are indexed by tile ordinal
+ * and are computed once when the class is initialized, so that every query is
+ * a constant time lookup that does not allocate.
+ */
+public final class Bitboards {
+
+    /**
+     * The number of tiles on the board.
+     */
+    private static final int SQUARES = 64;
+
+    /**
+     * The tiles strictly between two tiles on a common line.
+     */
+    private static final long[][] BETWEEN = new long[SQUARES][SQUARES];
+
+    /**
+     * The full lines through two tiles on a common line.
+     */
+    private static final long[][] LINE = new long[SQUARES][SQUARES];
+
+    /**
+     * The rays starting next to a tile in each direction.
+     */
+    private static final long[][] RAYS = new long[Direction.values().length][SQUARES];
+
+    /**
+     * The tiles a knight can reach from a tile.
+     */
+    private static final long[] KNIGHT_ATTACKS = new long[SQUARES];
+
+    /**
+     * The tiles a king can reach from a tile.
+     */
+    private static final long[] KING_ATTACKS = new long[SQUARES];
+
+    /**
+     * The tiles a pawn of each color attacks from a tile.
+     */
+    private static final long[][] PAWN_ATTACKS = new long[Color.values().length][SQUARES];
+
+    static {
+        for (Tile tile : Tile.values()) {
+            int square = tile.ordinal();
+            for (Direction direction : Direction.values()) {
+                long ray = 0L;
+                int column = tile.column() + direction.deltaColumn;
+                int row = tile.row() + direction.deltaRow;
+                while (isOnBoard(column, row)) {
+                    int target = Tile.valueOf(column, row).ordinal();
+                    BETWEEN[square][target] = ray;
+                    ray |= 1L << target;
+                    column += direction.deltaColumn;
+                    row += direction.deltaRow;
+                }
+                RAYS[direction.ordinal()][square] = ray;
+            }
+            Direction[] directions = Direction.values();
+            for (Direction direction : directions) {
+                long ray = RAYS[direction.ordinal()][square];
+                long line = ray | RAYS[(direction.ordinal() + directions.length / 2) % directions.length][square]
+                        | tile.mask();
+                for (; ray != 0L; ray &= ray - 1) {
+                    LINE[square][Long.numberOfTrailingZeros(ray)] = line;
+                }
+            }
+            KNIGHT_ATTACKS[square] = offsets(tile, new int[][] { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 },
+                    { -1, -2 }, { -2, -1 }, { -2, 1 }, { -1, 2 } });
+            KING_ATTACKS[square] = offsets(tile, new int[][] { { 0, 1 }, { 1, 1 }, { 1, 0 }, { 1, -1 }, { 0, -1 },
+                    { -1, -1 }, { -1, 0 }, { -1, 1 } });
+            PAWN_ATTACKS[Color.WHITE.ordinal()][square] = offsets(tile, new int[][] { { -1, 1 }, { 1, 1 } });
+            PAWN_ATTACKS[Color.BLACK.ordinal()][square] = offsets(tile, new int[][] { { -1, -1 }, { 1, -1 } });
+        }
+    }
+
+    // Private constructor
+    private Bitboards() {
+    }
+
+    /**
+     * Returns a mask of all tiles that lie strictly between the start and end
+     * tile under the condition that both form a straight or diagonal line.
+     * Otherwise the mask is empty.
+     *
+     * @param start the start tile.
+     * @param end   the end tile.
+     * @return the tiles in between start and end.
+     * @see Tile#path(Tile, Tile)
+     */
+    public static long between(Tile start, Tile end) {
+        return BETWEEN[start.ordinal()][end.ordinal()];
+    }
+
+    /**
+     * Returns a mask of all tiles that lie strictly between the tiles with the
+     * given ordinals.
+     *
+     * @param start the ordinal of the start tile.
+     * @param end   the ordinal of the end tile.
+     * @return the tiles in between start and end.
+     */
+    public static long between(int start, int end) {
+        return BETWEEN[start][end];
+    }
+
+    /**
+     * Returns a mask of the whole line from edge to edge through the tiles with
+     * the given ordinals under the condition that both form a straight or
+     * diagonal line. Otherwise the mask is empty.
+     *
+     * @param first  the ordinal of the first tile.
+     * @param second the ordinal of the second tile.
+     * @return the tiles of the line through both tiles.
+     */
+    public static long line(int first, int second) {
+        return LINE[first][second];
+    }
+
+    /**
+     * Returns a mask of all tiles that a piece on the given tile passes when
+     * moving in the given direction up to the edge of the board. The tile itself
+     * is not part of the ray.
+     *
+     * @param direction the direction of the ray.
+     * @param tile      the origin of the ray.
+     * @return the tiles of the ray.
+     */
+    public static long ray(Direction direction, Tile tile) {
+        return RAYS[direction.ordinal()][tile.ordinal()];
+    }
+
+    /**
+     * Returns the ray in the given direction from the tile with the given ordinal.
+     *
+     * @param direction the direction of the ray.
+     * @param square    the ordinal of the origin.
+     * @return the tiles of the ray.
+     */
+    public static long ray(Direction direction, int square) {
+        return RAYS[direction.ordinal()][square];
+    }
+
+    /**
+     * Returns a mask of all tiles a knight can reach from the given tile.
+     *
+     * @param tile the position of the knight.
+     * @return the tiles the knight can reach.
+     */
+    public static long knightAttacks(Tile tile) {
+        return KNIGHT_ATTACKS[tile.ordinal()];
+    }
+
+    /**
+     * Returns a mask of all tiles a knight can reach from the tile with the given
+     * ordinal.
+     *
+     * @param square the ordinal of the position of the knight.
+     * @return the tiles the knight can reach.
+     */
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    /**
+     * Returns a mask of all tiles a king can reach from the given tile with a
+     * single step.
+     *
+     * @param tile the position of the king.
+     * @return the tiles the king can reach.
+     */
+    public static long kingAttacks(Tile tile) {
+        return KING_ATTACKS[tile.ordinal()];
+    }
+
+    /**
+     * Returns a mask of all tiles a king can reach from the tile with the given
+     * ordinal with a single step.
+     *
+     * @param square the ordinal of the position of the king.
+     * @return the tiles the king can reach.
+     */
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    /**
+     * Returns a mask of the tiles a pawn of the given color placed on the given
+     * tile can capture on.
+     *
+     * @param color the color of the pawn.
+     * @param tile  the position of the pawn.
+     * @return the tiles the pawn attacks.
+     */
+    public static long pawnAttacks(Color color, Tile tile) {
+        return PAWN_ATTACKS[color.ordinal()][tile.ordinal()];
+    }
+
+    /**
+     * Returns a mask of the tiles a pawn of the given color placed on the tile
+     * with the given ordinal can capture on.
+     *
+     * @param color  the color of the pawn.
+     * @param square the ordinal of the position of the pawn.
+     * @return the tiles the pawn attacks.
+     */
+    public static long pawnAttacks(Color color, int square) {
+        return PAWN_ATTACKS[color.ordinal()][square];
+    }
+
+    /**
+     * Returns a mask of all tiles a rook on the tile with the given ordinal
+     * attacks on a board with the given occupancy. The attacks along each line end
+     * at the first occupied tile, which is included regardless of its color. The
+     * attacks are looked up in the magic tables of {@link Magics}.
+     *
+     * @param square   the ordinal of the position of the rook.
+     * @param occupied the mask of all occupied tiles.
+     * @return the tiles the rook attacks.
+     */
+    public static long rookAttacks(int square, long occupied) {
+        return Magics.rookAttacks(square, occupied);
+    }
+
+    /**
+     * Returns a mask of all tiles a bishop on the tile with the given ordinal
+     * attacks on a board with the given occupancy. The attacks along each diagonal
+     * end at the first occupied tile, which is included regardless of its color.
+     * The attacks are looked up in the magic tables of {@link Magics}.
+     *
+     * @param square   the ordinal of the position of the bishop.
+     * @param occupied the mask of all occupied tiles.
+     * @return the tiles the bishop attacks.
+     */
+    public static long bishopAttacks(int square, long occupied) {
+        return Magics.bishopAttacks(square, occupied);
+    }
+
+    /**
+     * Returns a mask of all tiles a queen on the tile with the given ordinal
+     * attacks on a board with the given occupancy.
+     *
+     * @param square   the ordinal of the position of the queen.
+     * @param occupied the mask of all occupied tiles.
+     * @return the tiles the queen attacks.
+     */
+    public static long queenAttacks(int square, long occupied) {
+        return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+    }
+
+    /**
+     * Returns the ray in the given direction cut off behind the first occupied
+     * tile. This walks the ray and is used to fill the tables of {@link Magics}.
+     *
+     * @param direction the direction of the ray.
+     * @param square    the ordinal of the origin.
+     * @param occupied  the mask of all occupied tiles.
+     * @return the tiles of the ray up to and including the first occupied tile.
+     */
+    static long slidingAttacks(Direction direction, int square, long occupied) {
+        long ray = RAYS[direction.ordinal()][square];
+        long blockers = ray & occupied;
+        if (blockers == 0L) {
+            return ray;
+        }
+        int blocker = direction.isIncreasing() ? Long.numberOfTrailingZeros(blockers)
+                : 63 - Long.numberOfLeadingZeros(blockers);
+        return ray & ~RAYS[direction.ordinal()][blocker];
+    }
+
+    /*
+     * Returns the mask of all tiles that lie on the board at the given column and
+     * row offsets from the given tile.
+     */
+    private static long offsets(Tile tile, int[][] offsets) {
+        long mask = 0L;
+        for (int[] offset : offsets) {
+            int column = tile.column() + offset[0];
+            int row = tile.row() + offset[1];
+            if (isOnBoard(column, row)) {
+                mask |= Tile.valueOf(column, row).mask();
+            }
+        }
+        return mask;
+    }
+
+    /*
+     * Returns true if the column and row denote a tile on the board.
+     */
+    private static boolean isOnBoard(int column, int row) {
+        return column >= 1 && column <= 8 && row >= 1 && row <= 8;
+    }
+
+    /**
+     * The eight directions in which pieces move along lines.
+     */
+    public enum Direction {
+
+        /**
+         * Up the board towards row 8.
+         */
+        NORTH(0, 1),
+
+        /**
+         * Diagonally towards h8.
+         */
+        NORTH_EAST(1, 1),
+
+        /**
+         * Along the row towards column h.
+         */
+        EAST(1, 0),
+
+        /**
+         * Diagonally towards h1.
+         */
+        SOUTH_EAST(1, -1),
+
+        /**
+         * Down the board towards row 1.
+         */
+        SOUTH(0, -1),
+
+        /**
+         * Diagonally towards a1.
+         */
+        SOUTH_WEST(-1, -1),
+
+        /**
+         * Along the row towards column a.
+         */
+        WEST(-1, 0),
+
+        /**
+         * Diagonally towards a8.
+         */
+        NORTH_WEST(-1, 1);
+
+        /**
+         * The change of the column number per step.
+         */
+        private final int deltaColumn;
+
+        /**
+         * The change of the row number per step.
+         */
+        private final int deltaRow;
+
+        // Private constructor
+        Direction(int deltaColumn, int deltaRow) {
+            this.deltaColumn = deltaColumn;
+            this.deltaRow = deltaRow;
+        }
+
+        /**
+         * Returns {@code true} if a piece moving in this direction moves towards
+         * tiles with higher ordinals.
+         *
+         * @return {@code true} if the ordinals increase along the direction.
+         */
+        public boolean isIncreasing() {
+            return deltaRow < 0 || (deltaRow == 0 && deltaColumn > 0);
+        }
+
+        /**
+         * Returns {@code true} if this direction is diagonal, that is if it is a
+         * direction of a bishop and not of a rook.
+         *
+         * @return {@code true} if the direction is diagonal.
+         */
+        public boolean isDiagonal() {
+            return deltaColumn != 0 && deltaRow != 0;
+        }
+    }
+}
@@ -4,7 +4,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 
+import org.chess4j.Player.Color;
 import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
 
 /**
  * A Board maps tile coordinates to pieces. A Board captures a specific position
@@ -13,7 +15,9 @@ import org.chess4j.pieces.Piece;
  * mappings which adhere to a given predicate.
  * </p>
  * As all maps a board is generally considered equal to a given map if all
- * mappings are considered equal.
+ * mappings are considered equal, and its hash code is the hash code of a map
+ * with the same mappings. The {@link #zobristKey()} of a board is the cheaper
+ * key to compare positions by.
  */
 public interface Board extends Map<Tile, Piece> {
 
@@ -50,6 +54,157 @@ public interface Board extends Map<Tile, Piece> {
         return entrySet().stream().anyMatch(e -> predicate.test(e.getValue()));
     }
 
+    /**
+     * Returns the occupancy of this board as a bitboard mask, in which the bit
+     * {@link Tile#mask()} is set for every tile that holds a piece.
+     *
+     * @return the mask of all occupied tiles.
+     */
+    default long occupied() {
+        long mask = 0L;
+        for (Tile tile : keySet()) {
+            mask |= tile.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of all tiles that hold a piece of the given color.
+     *
+     * @param color the color of the pieces.
+     * @return the mask of all tiles occupied by the given color.
+     */
+    default long occupied(Color color) {
+        Objects.requireNonNull(color);
+        long mask = 0L;
+        for (Entry<Tile, Piece> entry : entrySet()) {
+            if (entry.getValue().color() == color) {
+                mask |= entry.getKey().mask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of all tiles that hold a piece of the given color and type.
+     *
+     * @param color the color of the pieces.
+     * @param type  the type of the pieces.
+     * @return the mask of all tiles occupied by such pieces.
+     */
+    default long pieces(Color color, Type type) {
+        Objects.requireNonNull(color);
+        Objects.requireNonNull(type);
+        long mask = 0L;
+        for (Entry<Tile, Piece> entry : entrySet()) {
+            Piece piece = entry.getValue();
+            if (piece.color() == color && piece.type() == type) {
+                mask |= entry.getKey().mask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of pieces of the given color and type on this board.
+     *
+     * @param color the color of the pieces.
+     * @param type  the type of the pieces.
+     * @return the number of such pieces.
+     */
+    default int count(Color color, Type type) {
+        return Long.bitCount(pieces(color, type));
+    }
+
+    /**
+     * Returns the position of the king of the given color or {@code null} if there
+     * is no such king on the board. If there are multiple kings of the same color
+     * the one on the tile with the lowest ordinal is returned.
+     *
+     * @param color the color of the king.
+     * @return the position of the king or {@code null}.
+     */
+    default Tile kingPosition(Color color) {
+        long kings = pieces(color, Type.KING);
+        return kings == 0L ? null : Tile.ofOrdinal(Long.numberOfTrailingZeros(kings));
+    }
+
+    /**
+     * Returns {@code true} if a piece of the given color attacks the given tile.
+     * A tile is attacked if a piece of the color could capture an enemy piece
+     * placed on the tile, regardless of whether the tile is empty or whether the
+     * attacking piece is pinned. The answer is found by looking from the tile
+     * backwards along the lines and knight, king and pawn steps instead of trying
+     * every piece of the color.
+     *
+     * @param tile  the given tile.
+     * @param color the color of the attacking pieces.
+     * @return {@code true} if the tile is attacked by the given color.
+     */
+    default boolean isAttacked(Tile tile, Color color) {
+        return isAttacked(tile.ordinal(), color, occupied());
+    }
+
+    /**
+     * Returns {@code true} if a piece of the given color attacks the tile with the
+     * given ordinal if the sliding pieces were blocked by the given occupancy
+     * instead of the pieces on this board. This allows to ask whether a tile is
+     * safe for a king once the king has left its own tile.
+     *
+     * @param square   the ordinal of the given tile.
+     * @param color    the color of the attacking pieces.
+     * @param occupied the mask of the tiles that block sliding pieces.
+     * @return {@code true} if the tile is attacked by the given color.
+     * @see #isAttacked(Tile, Color)
+     */
+    default boolean isAttacked(int square, Color color, long occupied) {
+        long queens = pieces(color, Type.QUEEN);
+        return (Bitboards.pawnAttacks(color.swap(), square) & pieces(color, Type.PAWN)) != 0L
+                || (Bitboards.knightAttacks(square) & pieces(color, Type.KNIGHT)) != 0L
+                || (Bitboards.kingAttacks(square) & pieces(color, Type.KING)) != 0L
+                || (Bitboards.bishopAttacks(square, occupied) & (pieces(color, Type.BISHOP) | queens)) != 0L
+                || (Bitboards.rookAttacks(square, occupied) & (pieces(color, Type.ROOK) | queens)) != 0L;
+    }
+
+    /**
+     * Returns the mask of all tiles that hold a piece of either color which
+     * attacks the given tile as specified by {@link #isAttacked(Tile, Color)}.
+     *
+     * @param tile the given tile.
+     * @return the mask of all pieces attacking the tile.
+     */
+    default long attackers(Tile tile) {
+        int square = tile.ordinal();
+        long occupied = occupied();
+        long attackers = 0L;
+        for (Color color : Color.values()) {
+            long queens = pieces(color, Type.QUEEN);
+            attackers |= Bitboards.pawnAttacks(color.swap(), square) & pieces(color, Type.PAWN);
+            attackers |= Bitboards.knightAttacks(square) & pieces(color, Type.KNIGHT);
+            attackers |= Bitboards.kingAttacks(square) & pieces(color, Type.KING);
+            attackers |= Bitboards.bishopAttacks(square, occupied) & (pieces(color, Type.BISHOP) | queens);
+            attackers |= Bitboards.rookAttacks(square, occupied) & (pieces(color, Type.ROOK) | queens);
+        }
+        return attackers;
+    }
+
+    /**
+     * Returns the Zobrist key of the placement of the pieces on this board as
+     * specified by {@link Zobrist#piece(Piece, Tile)}. The key neither covers the
+     * side to move nor castling rights or en-passant targets, which are no
+     * property of the board but of the game, see
+     * {@link Zobrist#key(Board, org.chess4j.Player.Color, int, Tile)}.
+     *
+     * @return the Zobrist key of the piece placement.
+     */
+    default long zobristKey() {
+        long key = 0L;
+        for (Entry<Tile, Piece> entry : entrySet()) {
+            key ^= Zobrist.piece(entry.getValue(), entry.getKey());
+        }
+        return key;
+    }
+
     /**
      * Returns an unmodifiable Board that is backed the given board.
      *
@@ -57,7 +212,7 @@ public interface Board extends Map<Tile, Piece> {
      * @return an unmodifiable board.
      */
     static Board unmodifiable(Board board) {
-        return EnumMapBoard.unmodifiable(board);
+        return UnmodifiableBoard.of(board);
     }
 
     /**
@@ -68,7 +223,7 @@ public interface Board extends Map<Tile, Piece> {
      * @return an unmodifiable board.
      */
     static Board copy(Board board) {
-        return EnumMapBoard.copy(board);
+        return board instanceof PersistentBoard ? board : BitboardBoard.copy(board);
     }
 
     /**
@@ -77,6 +232,6 @@ public interface Board extends Map<Tile, Piece> {
      * @return a new fully set up board.
      */
     static Board newGame() {
-        return EnumMapBoard.newGame();
+        return BitboardBoard.newGame();
     }
 }
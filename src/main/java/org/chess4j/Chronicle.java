@@ -2,11 +2,15 @@ package org.chess4j;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+import org.chess4j.Player.Color;
 import org.chess4j.moves.Move;
-import org.chess4j.pieces.Piece;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.PawnLeap;
+import org.chess4j.moves.Rochade;
 
 /**
  * A chronicle is an ordered sequence of all moves in a chess game. All moved
@@ -28,6 +32,63 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
      */
     private final Board initial;
 
+    /**
+     * The mutable current position of the game, which is built on demand and
+     * discarded if the chronicle is changed other than by appending a move.
+     */
+    private MutablePosition position;
+
+    /**
+     * The number of bits of the castling rights in a state.
+     */
+    private static final int CASTLING_BITS = 4;
+
+    /**
+     * The mask of the castling rights in a state.
+     */
+    private static final int CASTLING_MASK = (1 << CASTLING_BITS) - 1;
+
+    /**
+     * The number of bits of the en-passant target in a state.
+     */
+    private static final int EN_PASSANT_BITS = 7;
+
+    /**
+     * The mask of the en-passant target in a state after shifting it down.
+     */
+    private static final int EN_PASSANT_MASK = (1 << EN_PASSANT_BITS) - 1;
+
+    /**
+     * The shift of the halfmove clock in a state.
+     */
+    private static final int CLOCK_SHIFT = CASTLING_BITS + EN_PASSANT_BITS;
+
+    /**
+     * The state of the position before each move, followed by the state of the
+     * current position at index {@link #size()}. A state holds the castling
+     * rights in its lowest four bits, the ordinal of the en-passant target tile
+     * plus one, or zero if there is none, in the next seven bits and the
+     * halfmove clock in the bits above.
+     */
+    private int[] states;
+
+    /**
+     * The Zobrist key of the position before each move, followed by the key of
+     * the current position at index {@link #size()}.
+     */
+    private long[] keys;
+
+    /**
+     * The number of occurrences of every key of {@link #keys} up to the index
+     * {@link #counted}.
+     */
+    private final KeyCounter counter = new KeyCounter();
+
+    /**
+     * The number of keys that are counted by {@link #counter}.
+     */
+    private int counted;
+
     /**
      * Constructs a new chronicle with the given initial position.
      *
@@ -35,7 +96,34 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
      */
     public Chronicle(Board initial) {
         chronicle = new ArrayList<>();
-        this.initial = Board.copy(Objects.requireNonNull(initial));
+        this.initial = PersistentBoard.of(initial);
+        this.states = new int[16];
+        this.keys = new long[16];
+        updateStates(0);
+    }
+
+    /**
+     * Constructs a new compact chronicle with the given initial position. A
+     * compact chronicle keeps every move as a packed move and a copy of the
+     * board only after every given number of moves, instead of an initial and a
+     * result board per move. The boards of a move returned by {@link #get(int)}
+     * are rebuilt from the nearest copy before it when they are asked for, which
+     * replays fewer moves the smaller the interval is. The boards of the last
+     * move are kept, so that playing a game on a compact chronicle is as fast as
+     * on a regular one. The moves are views of the chronicle at their index and
+     * their pieces are equal but not identical to those of the added moves.
+     *
+     * @param initial            the initial position of the board.
+     * @param checkpointInterval the number of moves between two copies of the
+     *                           board.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public Chronicle(Board initial, int checkpointInterval) {
+        this.initial = PersistentBoard.of(initial);
+        chronicle = new CompactMoves(this.initial, checkpointInterval);
+        this.states = new int[16];
+        this.keys = new long[16];
+        updateStates(0);
     }
 
     /**
@@ -48,11 +136,14 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
         Objects.requireNonNull(chronicle);
         if (chronicle.isEmpty()) {
             this.chronicle = new ArrayList<>();
-            this.initial = Board.copy(Objects.requireNonNull(Board.newGame()));
+            this.initial = PersistentBoard.of(Board.newGame());
         } else {
             this.chronicle = new ArrayList<>(chronicle);
-            this.initial = Board.copy(chronicle.get(0).initial());
+            this.initial = PersistentBoard.of(chronicle.get(0).initial());
         }
+        this.states = new int[this.chronicle.size() + 16];
+        this.keys = new long[states.length];
+        updateStates(0);
     }
 
     /**
@@ -60,7 +151,10 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
      */
     @Override
     public Move set(int index, Move element) {
-        return chronicle.set(index, element);
+        position = null;
+        Move replaced = chronicle.set(index, element);
+        updateStates(index);
+        return replaced;
     }
 
     /**
@@ -76,6 +170,13 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
         Objects.requireNonNull(element);
         if (current().equals(element.initial())) {
             chronicle.add(index, element);
+            updateStates(index);
+            if (position != null && index == size() - 1) {
+                position.makeMove(element);
+                position.clearHistory();
+            } else {
+                position = null;
+            }
         } else {
             throw new IllegalArgumentException(
                     "The initial board position of the move does not match the current board position of the game.");
@@ -87,7 +188,10 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
      */
     @Override
     public Move remove(int index) {
-        return chronicle.remove(index);
+        position = null;
+        Move removed = chronicle.remove(index);
+        updateStates(index);
+        return removed;
     }
 
     /**
@@ -116,14 +220,150 @@ public final class Chronicle extends AbstractList<Move> implements List<Move> {
     }
 
     /**
-     * Returns {@code true} if the piece has been moved {@code false} otherwise.
+     * Returns the current position of the game as a mutable position. The
+     * position is kept up to date as moves are added, so that callers can try
+     * moves on it by {@link MutablePosition#makeMove(Move)} as long as they revert
+     * them by {@link MutablePosition#unmakeMove()} before the chronicle is used
+     * again. The moves of the chronicle itself cannot be reverted on the
+     * position, as its undo history is cleared whenever a move is appended, so
+     * that the position holds no record per move of the game.
+     *
+     * @return the current mutable position.
+     */
+    public MutablePosition position() {
+        if (position == null) {
+            position = MutablePosition.of(this);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the color of the player whose turn it is in the current position.
+     * That is the opposite color of the piece moved last or white if no move has
+     * been made yet.
+     *
+     * @return the color of the player to move.
+     */
+    public Color sideToMove() {
+        return isEmpty() ? Color.WHITE : get(size() - 1).moved().color().swap();
+    }
+
+    /**
+     * Returns the castling rights of the current position as a combination of
+     * {@link Rochade#WHITE_SHORT}, {@link Rochade#WHITE_LONG},
+     * {@link Rochade#BLACK_SHORT} and {@link Rochade#BLACK_LONG}. A right is
+     * present if king and rook of equal color are placed on their tiles and
+     * neither has been moved. The rights are kept for every move as it is added,
+     * so that this method does not look at the history of the game.
+     *
+     * @return the castling rights of the current position.
+     * @see Rochade#remainingRights(int, Tile, Tile)
+     */
+    public int castlingRights() {
+        return states[size()] & CASTLING_MASK;
+    }
+
+    /*
+     * Recomputes the state and the key after the move at the given index and all
+     * later moves. Appending a move only computes the state after the new move.
+     * The keys that are replaced are no longer counted.
+     */
+    private void updateStates(int index) {
+        if (states.length <= size()) {
+            states = Arrays.copyOf(states, 2 * size() + 1);
+            keys = Arrays.copyOf(keys, states.length);
+        }
+        int first = index == 0 ? 0 : index + 1;
+        for (int i = first; i < counted; i++) {
+            counter.decrement(keys[i]);
+        }
+        if (index == 0) {
+            states[0] = Rochade.initialRights(initial);
+            keys[0] = Zobrist.key(initial, isEmpty() ? Color.WHITE : get(0).moved().color(), states[0], null);
+        }
+        for (int i = index; i < size(); i++) {
+            Move move = chronicle.get(i);
+            int state = Rochade.remainingRights(states[i] & CASTLING_MASK, move.start(), move.end());
+            Tile leaped = null;
+            if (move.kind() == Kind.PAWN_LEAP) {
+                leaped = Tile.valueOf(move.start().column(), (move.start().row() + move.end().row()) / 2);
+                state |= (leaped.ordinal() + 1) << CASTLING_BITS;
+            }
+            if (!resetsClock(move)) {
+                state |= ((states[i] >>> CLOCK_SHIFT) + 1) << CLOCK_SHIFT;
+            }
+            states[i + 1] = state;
+            keys[i + 1] = Zobrist.key(move.result(), move.moved().color().swap(), state & CASTLING_MASK, leaped);
+        }
+        for (int i = first; i <= size(); i++) {
+            counter.increment(keys[i]);
+        }
+        counted = size() + 1;
+    }
+
+    /*
+     * Returns true if the move is a pawn move or a capture.
+     */
+    private static boolean resetsClock(Move move) {
+        switch (move.kind()) {
+        case SIMPLE:
+            return move.captured().isPresent();
+        case ROCHADE:
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of moves since the last pawn move or capture, which is
+     * known as the halfmove clock. The clock starts at zero with the initial
+     * position and is kept for every move as it is added, so that this method
+     * does not look at the history of the game.
+     *
+     * @return the halfmove clock of the current position.
+     */
+    public int halfmoveClock() {
+        return states[size()] >>> CLOCK_SHIFT;
+    }
+
+    /**
+     * Returns the tile a pawn leaped over in the last move or {@code null} if the
+     * last move was no {@link PawnLeap}. The tile is kept with every move as it
+     * is added.
+     *
+     * @return the en-passant target tile or {@code null}.
+     */
+    public Tile enPassant() {
+        int ordinal = (states[size()] >>> CASTLING_BITS) & EN_PASSANT_MASK;
+        return ordinal == 0 ? null : Tile.ofOrdinal(ordinal - 1);
+    }
+
+    /**
+     * Returns the Zobrist key of the current position including the side to move,
+     * the castling rights and the en-passant target. The key is kept for every
+     * move as it is added.
+     *
+     * @return the key of the current position.
+     * @see Zobrist#key(Board, Color, int, Tile)
+     */
+    public long positionKey() {
+        return keys[size()];
+    }
+
+    /**
+     * Returns how often the current position has occurred in the game, counting
+     * the current occurrence. Two positions are equal if their Zobrist keys are
+     * equal, which includes the side to move, the castling rights and an
+     * en-passant target that can be captured. The occurrences of every key are
+     * counted as moves are added and reverted, so that this method does not look
+     * at the history of the game.
      *
-     * @param piece the given piece.
-     * @return {@code true} if the piece has been moved {@code false} otherwise.
+     * @return the number of occurrences of the current position, at least one.
+     * @see #positionKey()
      */
-    public boolean hasBeenMoved(Piece piece) {
-        Objects.requireNonNull(piece);
-        return stream().anyMatch(m -> m.moved().equals(piece));
+    public int repetitions() {
+        return counter.count(positionKey());
     }
 
     /**
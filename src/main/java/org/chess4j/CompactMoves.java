@@ -0,0 +1,330 @@
+package org.chess4j;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.chess4j.Player.Color;
+import org.chess4j.moves.EncodedMove;
+import org.chess4j.moves.Move;
+import org.chess4j.moves.PackedMove;
+import org.chess4j.pieces.Piece;
+
+/**
+ * A list of moves that keeps every move as a packed move, see
+ * {@link PackedMove}, instead of holding an initial and a result board per
+ * move. Only the initial position, a checkpoint board after every fixed number
+ * of moves and the two boards around the last move are kept. The boards of any
+ * other move are rebuilt on demand by replaying the packed moves from the
+ * nearest checkpoint before them, and the board built last is cached. All kept
+ * boards are persistent boards, see {@link PersistentBoard}, which occupy a
+ * few words each.
+ * <p>
+ * The moves handed out by {@link #get(int)} are views of the list at their
+ * index, which rebuild their boards when asked for them. As pieces are rebuilt
+ * as well, a piece of a rebuilt board is equal but not necessarily identical
+ * to the piece of the move that was added. The list is used by
+ * {@link Chronicle} in its compact storage mode and is not thread-safe.
+ */
+final class CompactMoves extends AbstractList<Move> {
+
+    /**
+     * The packed moves.
+     */
+    private int[] moves = new int[16];
+
+    /**
+     * The number of moves.
+     */
+    private int size;
+
+    /**
+     * The number of moves between two checkpoints.
+     */
+    private final int interval;
+
+    /**
+     * The board before the move at every multiple of the interval, the initial
+     * position first.
+     */
+    private PersistentBoard[] checkpoints = new PersistentBoard[4];
+
+    /**
+     * The board before the last move or {@code null} if there is no move.
+     */
+    private PersistentBoard beforeLast;
+
+    /**
+     * The board after the last move, which is the initial position if there is
+     * no move.
+     */
+    private PersistentBoard last;
+
+    /**
+     * The index of the cached rebuilt board or {@code -1}.
+     */
+    private int cachedIndex = -1;
+
+    /**
+     * The cached rebuilt board.
+     */
+    private PersistentBoard cached;
+
+    /**
+     * Constructs an empty list of moves from the given initial position.
+     *
+     * @param initial  the initial position.
+     * @param interval the number of moves between two checkpoints.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    CompactMoves(Board initial, int interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The checkpoint interval must be positive.");
+        }
+        this.interval = interval;
+        this.checkpoints[0] = PersistentBoard.of(initial);
+        this.last = checkpoints[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move get(int index) {
+        Objects.checkIndex(index, size);
+        return new CompactMove(index, moves[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The move is packed, and the boards from the index onwards are rebuilt
+     * unless the move is appended.
+     */
+    @Override
+    public void add(int index, Move move) {
+        Objects.checkIndex(index, size + 1);
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, 2 * size);
+        }
+        System.arraycopy(moves, index, moves, index + 1, size - index);
+        moves[index] = PackedMove.of(move);
+        size++;
+        modCount++;
+        if (index == size - 1) {
+            beforeLast = last;
+            last = last.derive(move.result());
+            if (size % interval == 0) {
+                checkpoint(size, last);
+            }
+        } else {
+            rebuild(index);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move set(int index, Move move) {
+        Objects.checkIndex(index, size);
+        Move replaced = new CompactMove(index, moves[index]).detach();
+        moves[index] = PackedMove.of(move);
+        rebuild(index);
+        return replaced;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Move remove(int index) {
+        Objects.checkIndex(index, size);
+        Move removed = new CompactMove(index, moves[index]).detach();
+        System.arraycopy(moves, index + 1, moves, index, size - index - 1);
+        size--;
+        modCount++;
+        if (index == size) {
+            last = (PersistentBoard) removed.initial();
+            beforeLast = size == 0 ? null : rebuilt(size - 1);
+            // The checkpoint after the removed move is no longer valid.
+            if ((index + 1) % interval == 0) {
+                checkpoints[(index + 1) / interval] = null;
+            }
+            cachedIndex = -1;
+        } else {
+            rebuild(index);
+        }
+        return removed;
+    }
+
+    /*
+     * Returns the board before the move with the given index, which is the board
+     * after the last move for the index size.
+     */
+    private PersistentBoard board(int index) {
+        if (index == size) {
+            return last;
+        } else if (index == size - 1) {
+            return beforeLast;
+        } else if (index % interval == 0) {
+            return checkpoints[index / interval];
+        } else if (index == cachedIndex) {
+            return cached;
+        }
+        cached = rebuilt(index);
+        cachedIndex = index;
+        return cached;
+    }
+
+    /*
+     * Rebuilds the board before the move with the given index from the nearest
+     * checkpoint.
+     */
+    private PersistentBoard rebuilt(int index) {
+        int from = index - index % interval;
+        MutablePosition position = new MutablePosition(checkpoints[from / interval], Color.WHITE, 0, null);
+        for (int i = from; i < index; i++) {
+            position.makeMove(moves[i]);
+        }
+        return PersistentBoard.of(position.board());
+    }
+
+    /*
+     * Replays the moves from the checkpoint before the given index and renews
+     * all later checkpoints and the boards around the last move.
+     */
+    private void rebuild(int index) {
+        int from = index - index % interval;
+        MutablePosition position = new MutablePosition(checkpoints[from / interval], Color.WHITE, 0, null);
+        Arrays.fill(checkpoints, from / interval + 1, checkpoints.length, null);
+        beforeLast = null;
+        for (int i = from; i < size; i++) {
+            if (i == size - 1) {
+                beforeLast = PersistentBoard.of(position.board());
+            }
+            position.makeMove(moves[i]);
+            if ((i + 1) % interval == 0) {
+                checkpoint(i + 1, PersistentBoard.of(position.board()));
+            }
+        }
+        last = size == 0 ? checkpoints[0] : PersistentBoard.of(position.board());
+        cachedIndex = -1;
+    }
+
+    /*
+     * Stores the board before the move with the given index as a checkpoint.
+     */
+    private void checkpoint(int index, PersistentBoard board) {
+        int slot = index / interval;
+        if (slot >= checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, 2 * slot);
+        }
+        checkpoints[slot] = board;
+    }
+
+    /**
+     * A view of the packed move at an index of the list, whose boards are taken
+     * from the list when they are asked for.
+     */
+    private final class CompactMove implements Move {
+
+        /**
+         * The index of the move in the list.
+         */
+        private final int index;
+
+        /**
+         * The packed move.
+         */
+        private final int move;
+
+        // Private constructor
+        private CompactMove(int index, int move) {
+            this.index = index;
+            this.move = move;
+        }
+
+        /*
+         * Returns the move with its own boards, which stays valid after the list
+         * has been changed.
+         */
+        private Move detach() {
+            PersistentBoard initial = board(index);
+            MutablePosition position = new MutablePosition(initial, Color.WHITE, 0, null);
+            position.makeMove(move);
+            return EncodedMove.of(move, initial, initial.derive(position.board()));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Tile start() {
+            return PackedMove.start(move);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Tile end() {
+            return PackedMove.end(move);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Board initial() {
+            return board(index);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Board result() {
+            return board(index + 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Kind kind() {
+            return PackedMove.kind(move);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * An en-passant capture takes the pawn next to the start tile instead of a
+         * piece on the end tile.
+         */
+        @Override
+        public Optional<Piece> captured() {
+            if (kind() == Kind.EN_PASSANTE) {
+                return Optional.ofNullable(initial().get(Tile.valueOf(end().column(), start().row())));
+            }
+            return Move.super.captured();
+        }
+
+        /**
+         * Returns the move in coordinate notation.
+         */
+        @Override
+        public String toString() {
+            return PackedMove.toString(move);
+        }
+    }
+}
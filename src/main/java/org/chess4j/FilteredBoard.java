@@ -0,0 +1,104 @@
+package org.chess4j;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.chess4j.pieces.Piece;
+
+/**
+ * A private implementation of a Board that is backed by a given board. Keyed
+ * access is forwarded to the backing board and the condition is only tested
+ * for the piece found there. The size of the view is cached as long as the
+ * backing board reports no modification.
+ */
+final class FilteredBoard extends AbstractBoard {
+
+    /**
+     * The filter condition.
+     */
+    private final Predicate<Piece> condition;
+
+    /**
+     * The entry set will be updated with the original map.
+     */
+    private final Board board;
+
+    /**
+     * The cached size of the view or -1 if it has not been computed yet.
+     */
+    private int size = -1;
+
+    /**
+     * The modification count of the backing board at the time the size was
+     * cached.
+     */
+    private int expectedModCount;
+
+    /**
+     * @param condition
+     */
+    FilteredBoard(Board board, Predicate<Piece> condition) {
+        this.condition = condition;
+        this.board = board;
+    }
+
+    @Override
+    public Board filter(Predicate<Piece> predicate) {
+        return board.filter(predicate.and(condition));
+    }
+
+    @Override
+    public Piece get(Object key) {
+        Piece piece = board.get(key);
+        return piece != null && condition.test(piece) ? piece : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        if (!(board instanceof AbstractBoard)) {
+            return count();
+        }
+        int modCount = ((AbstractBoard) board).modCount;
+        if (size < 0 || expectedModCount != modCount) {
+            size = count();
+            expectedModCount = modCount;
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Entry<Tile, Piece>> entrySet() {
+        return new AbstractSet<Map.Entry<Tile, Piece>>() {
+
+            @Override
+            public Iterator<Entry<Tile, Piece>> iterator() {
+                return board.entrySet().stream().filter(e -> condition.test(e.getValue())).iterator();
+            }
+
+            @Override
+            public int size() {
+                return FilteredBoard.this.size();
+            }
+        };
+    }
+
+    @Override
+    boolean isImmutable() {
+        return board instanceof AbstractBoard && ((AbstractBoard) board).isImmutable();
+    }
+
+    /*
+     * Counts the pieces of the backing board that fulfill the condition.
+     */
+    private int count() {
+        return (int) board.entrySet().stream().filter(e -> condition.test(e.getValue())).count();
+    }
+}
@@ -0,0 +1,138 @@
+package org.chess4j;
+
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.chess4j.Player.Color;
+import org.chess4j.moves.EncodedMove;
+import org.chess4j.moves.MoveGenerator;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.Rochade;
+
+/**
+ * Runner class that measures the memory the history of a game occupies in
+ * different representations. A number of random games is played and the board
+ * after every move is kept
+ * <ul>
+ * <li>as a copy of a {@link BitboardBoard}, which is how the moves stored their
+ * boards before {@link PersistentBoard},</li>
+ * <li>as a {@link PersistentBoard} derived from the board before, which holds
+ * the masks of the pieces only, and</li>
+ * <li>in a compact {@link Chronicle}, which keeps packed moves and a board after
+ * every sixteen moves.</li>
+ * </ul>
+ * The retained heap per game and per move is printed for each representation.
+ * The optional arguments are the number of games, which defaults to 2000, and
+ * the number of moves per game, which defaults to 200. The figures are
+ * estimates taken from the heap usage after garbage collections.
+ */
+public final class FootprintRunner {
+
+    /**
+     * Main method for measuring the footprint, for example {@code 2000 200}.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int plies = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int[][] moves = randomGames(games, plies, new Random(1));
+        long total = 0L;
+        for (int[] game : moves) {
+            total += game.length;
+        }
+        System.out.println(String.format("Games: %d\tMoves: %d", games, total));
+
+        measure("Bitboard boards", moves, total, game -> {
+            MutablePosition position = newGame();
+            Board[] boards = new Board[game.length + 1];
+            boards[0] = Board.copy(position.board());
+            for (int i = 0; i < game.length; i++) {
+                position.makeMove(game[i]);
+                boards[i + 1] = Board.copy(position.board());
+            }
+            return boards;
+        });
+        measure("Persistent boards", moves, total, game -> {
+            MutablePosition position = newGame();
+            PersistentBoard[] boards = new PersistentBoard[game.length + 1];
+            boards[0] = PersistentBoard.of(position.board());
+            for (int i = 0; i < game.length; i++) {
+                position.makeMove(game[i]);
+                boards[i + 1] = boards[i].derive(position.board());
+            }
+            return boards;
+        });
+        measure("Compact chronicle", moves, total, game -> {
+            Chronicle chronicle = new Chronicle(Board.newGame(), 16);
+            for (int move : game) {
+                chronicle.add(EncodedMove.of(move, chronicle.position()));
+            }
+            return chronicle;
+        });
+    }
+
+    /**
+     * Builds the history of every game, keeps all of them and prints the heap
+     * they occupy.
+     *
+     * @param name    the name of the representation.
+     * @param moves   the packed moves of every game.
+     * @param total   the total number of moves.
+     * @param history the function that builds the history of a game.
+     */
+    private static void measure(String name, int[][] moves, long total, Function<int[], Object> history) {
+        Object[] histories = new Object[moves.length];
+        long before = usedMemory();
+        for (int i = 0; i < moves.length; i++) {
+            histories[i] = history.apply(moves[i]);
+        }
+        long bytes = usedMemory() - before;
+        Reference.reachabilityFence(histories);
+        System.out.println(String.format("%s:\t%.0f bytes per game\t%.1f bytes per move", name,
+                (double) bytes / moves.length, (double) bytes / total));
+    }
+
+    /*
+     * Plays random games of legal moves, which end early by mate or stalemate.
+     */
+    private static int[][] randomGames(int games, int plies, Random random) {
+        int[][] moves = new int[games][];
+        MoveList legal = new MoveList();
+        for (int game = 0; game < games; game++) {
+            MutablePosition position = newGame();
+            int[] played = new int[plies];
+            int ply = 0;
+            for (; ply < plies; ply++) {
+                legal.clear();
+                MoveGenerator.legalMoves(position, legal);
+                if (legal.isEmpty()) {
+                    break;
+                }
+                played[ply] = legal.get(random.nextInt(legal.size()));
+                position.makeMove(played[ply]);
+            }
+            moves[game] = Arrays.copyOf(played, ply);
+        }
+        return moves;
+    }
+
+    /*
+     * Returns the initial position of a game.
+     */
+    private static MutablePosition newGame() {
+        return new MutablePosition(Board.newGame(), Color.WHITE,
+                Rochade.WHITE_SHORT | Rochade.WHITE_LONG | Rochade.BLACK_SHORT | Rochade.BLACK_LONG, null);
+    }
+
+    /*
+     * Returns the used heap after collecting garbage.
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
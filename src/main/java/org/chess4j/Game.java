@@ -138,6 +138,15 @@ public interface Game {
      */
     boolean isDrawByInsufficientMaterial();
 
+    /**
+     * Returns the number of moves since the last pawn move or capture, which
+     * decides the fifty-move rule and is the fifth field of the Forsyth-Edwards
+     * Notation.
+     *
+     * @return the halfmove clock.
+     */
+    int halfmoveClock();
+
     /**
      * Returns the turn number
      *
@@ -145,14 +154,80 @@ public interface Game {
      */
     int turnNumber();
 
+    /**
+     * Returns the status of the game, which is the first of the predicates
+     * {@link #hasWhitePlayerWon()}, {@link #hasBlackPlayerWon()},
+     * {@link #isStalemate()}, {@link #isThreefoldRepetition()},
+     * {@link #isFiftyMoveRule()} and {@link #isDrawByInsufficientMaterial()} that
+     * applies or {@link Status#ONGOING} if none applies.
+     *
+     * @return the status of the game.
+     */
+    default Status status() {
+        if (hasWhitePlayerWon()) {
+            return Status.WHITE_WON;
+        } else if (hasBlackPlayerWon()) {
+            return Status.BLACK_WON;
+        } else if (isStalemate()) {
+            return Status.STALEMATE;
+        } else if (isThreefoldRepetition()) {
+            return Status.THREEFOLD_REPETITION;
+        } else if (isFiftyMoveRule()) {
+            return Status.FIFTY_MOVE_RULE;
+        } else if (isDrawByInsufficientMaterial()) {
+            return Status.INSUFFICIENT_MATERIAL;
+        }
+        return Status.ONGOING;
+    }
+
     /**
      * Returns {@code true} if the game is over.
      *
      * @return {@code true} if the game is over.
      */
     default boolean gameOver() {
-        return hasWhitePlayerWon() || hasBlackPlayerWon() || isStalemate() || isThreefoldRepetition()
-                || isFiftyMoveRule() || isDrawByInsufficientMaterial();
+        return status() != Status.ONGOING;
+    }
+
+    /**
+     * The status of a game, either ongoing or the reason why the game is over.
+     */
+    enum Status {
+
+        /**
+         * The game is not over.
+         */
+        ONGOING,
+
+        /**
+         * The white player has checkmated the black player.
+         */
+        WHITE_WON,
+
+        /**
+         * The black player has checkmated the white player.
+         */
+        BLACK_WON,
+
+        /**
+         * The player to move cannot make any move but is not in check.
+         */
+        STALEMATE,
+
+        /**
+         * The game is drawn by a threefold repetition.
+         */
+        THREEFOLD_REPETITION,
+
+        /**
+         * The game is drawn by the fifty-move rule.
+         */
+        FIFTY_MOVE_RULE,
+
+        /**
+         * Neither player has enough pieces left to checkmate.
+         */
+        INSUFFICIENT_MATERIAL
     }
 
 }
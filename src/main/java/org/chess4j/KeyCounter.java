@@ -0,0 +1,186 @@
+package org.chess4j;
+
+import java.util.Arrays;
+
+/**
+ * A key counter counts how often every position key occurs, for example the
+ * Zobrist keys of all positions of a game, see {@link Chronicle#repetitions()}.
+ * The keys and counts are held in two primitive arrays with open addressing and
+ * linear probing, so that counting a key neither boxes it nor allocates an
+ * entry. A key whose count drops to zero is removed by shifting the following
+ * keys of its probe sequence back, so that removals leave no tombstones behind.
+ * <p>
+ * A key counter is not thread-safe.
+ */
+public final class KeyCounter {
+
+    /**
+     * The initial number of slots.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Odd constant that spreads the key over the index bits.
+     */
+    private static final long SPREAD = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The keys of the occupied slots.
+     */
+    private long[] keys;
+
+    /**
+     * The counts parallel to the keys, zero for a free slot.
+     */
+    private int[] counts;
+
+    /**
+     * The number of distinct keys.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty counter.
+     */
+    public KeyCounter() {
+        keys = new long[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns how often the given key has been counted.
+     *
+     * @param key the key.
+     * @return the count of the key or zero.
+     */
+    public int count(long key) {
+        int index = find(key);
+        return index < 0 ? 0 : counts[index];
+    }
+
+    /**
+     * Counts the given key once more and returns its new count.
+     *
+     * @param key the key.
+     * @return the count of the key including this one.
+     */
+    public int increment(long key) {
+        int index = find(key);
+        if (index >= 0) {
+            return ++counts[index];
+        }
+        if (2 * (size + 1) > keys.length) {
+            resize(2 * keys.length);
+        }
+        index = slot(key);
+        while (counts[index] != 0) {
+            index = (index + 1) & (keys.length - 1);
+        }
+        keys[index] = key;
+        counts[index] = 1;
+        size++;
+        return 1;
+    }
+
+    /**
+     * Counts the given key once less and returns its new count. A key that has
+     * not been counted is ignored.
+     *
+     * @param key the key.
+     * @return the remaining count of the key.
+     */
+    public int decrement(long key) {
+        int index = find(key);
+        if (index < 0) {
+            return 0;
+        }
+        if (--counts[index] > 0) {
+            return counts[index];
+        }
+        size--;
+        shiftBack(index);
+        return 0;
+    }
+
+    /**
+     * Returns the number of distinct keys with a positive count.
+     *
+     * @return the number of distinct keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /*
+     * Returns the slot of the key or -1 if the key is not counted.
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int index = slot(key); counts[index] != 0; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Returns the first slot of the probe sequence of the key.
+     */
+    private int slot(long key) {
+        long hash = key * SPREAD;
+        return (int) (hash ^ hash >>> 32) & (keys.length - 1);
+    }
+
+    /*
+     * Frees the given slot and moves back every following key of the cluster
+     * whose probe sequence passes the free slot.
+     */
+    private void shiftBack(int free) {
+        int mask = keys.length - 1;
+        int index = free;
+        while (true) {
+            index = (index + 1) & mask;
+            if (counts[index] == 0) {
+                break;
+            }
+            int home = slot(keys[index]);
+            // The key can fill the free slot unless its home lies cyclically after
+            // the free slot and up to its current slot.
+            if (((index - home) & mask) >= ((index - free) & mask)) {
+                keys[free] = keys[index];
+                counts[free] = counts[index];
+                free = index;
+            }
+        }
+        counts[free] = 0;
+    }
+
+    /*
+     * Rehashes all keys into the given number of slots.
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[capacity];
+        counts = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int index = slot(oldKeys[i]);
+                while (counts[index] != 0) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                keys[index] = oldKeys[i];
+                counts[index] = oldCounts[i];
+            }
+        }
+    }
+}
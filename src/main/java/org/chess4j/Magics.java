@@ -0,0 +1,228 @@
+package org.chess4j;
+
+import java.util.SplittableRandom;
+
+import org.chess4j.Bitboards.Direction;
+import org.chess4j.pieces.Bishop;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Rook;
+
+/**
+ * Magic bitboard tables for the attacks of sliding pieces. For every tile the
+ * tiles that can block a rook or bishop are masked out of the occupancy,
+ * multiplied by a magic number and shifted, which yields a unique index into a
+ * table of precomputed attack masks. An attack query is therefore a single
+ * multiplication and array load, regardless of the occupancy.
+ * <p>
+ * The magic numbers were searched for the tile ordinals of this library, which
+ * start with {@link Tile#a8}, and are embedded below. The attack tables are
+ * filled when the class is initialized, which takes a few milliseconds, so no
+ * search or resource loading delays the first move. {@link #verify()} compares
+ * the tables against the move semantics of the pieces.
+ */
+public final class Magics {
+
+    /**
+     * The magic numbers of the rook attacks indexed by tile ordinal.
+     */
+    private static final long[] ROOK_MAGICS = {
+            0x2080001860C00580L, 0x0440081000200040L, 0x60800A8010022000L, 0x2100100100082004L,
+            0x0200080200201005L, 0x4480120080040011L, 0x0400008110080402L, 0x0100003203408900L,
+            0x0200800020804005L, 0x0202004020820101L, 0x4401001100402000L, 0xC200800800801002L,
+            0x000A001200082004L, 0x0020808002000400L, 0x8010808042000100L, 0x0082000420488209L,
+            0x4000208000400088L, 0x2050004000402000L, 0x2800808020001002L, 0x4080808008001004L,
+            0x0000808008000400L, 0x0000808004000200L, 0x1000040010820108L, 0x0203020000840061L,
+            0x000B84208000C008L, 0x0450400500248100L, 0xA12C200080801000L, 0x0100090100201000L,
+            0x2000100500080100L, 0x2244000480020080L, 0x8900110400308248L, 0x0800008200205104L,
+            0x8634884000800020L, 0x2000802000804000L, 0x0050001880802001L, 0x0042000812004020L,
+            0x0001080081801400L, 0x0082008002800400L, 0x0002011004000208L, 0x0080210082000044L,
+            0x1480400480088022L, 0x0080201002414002L, 0x8220008010008020L, 0x4210100300090020L,
+            0x008C000800110100L, 0x00010084000B0018L, 0x0002810002008080L, 0x0010041858820001L,
+            0x0000204100800100L, 0x0000401000200040L, 0x0002001044882200L, 0x8010480010028380L,
+            0x9028040082080080L, 0x8512008528102200L, 0x008C228108100400L, 0x08200040910C0200L,
+            0x0040952501800141L, 0x0040890200104022L, 0x0000200010090041L, 0x2040210010000855L,
+            0x0441000410020801L, 0x1001000804000201L, 0x00200200D8011004L, 0x8004010020805C02L };
+
+    /**
+     * The magic numbers of the bishop attacks indexed by tile ordinal.
+     */
+    private static final long[] BISHOP_MAGICS = {
+            0x0028084802440068L, 0x20202800C7808040L, 0x4242020041008000L, 0x8C04104200228600L,
+            0x0221104080100000L, 0x0001100804000044L, 0x4024882108220C02L, 0x2400440A18020200L,
+            0x0000320408180240L, 0x0000108240840081L, 0x0000500922002140L, 0x4008310502050410L,
+            0x4100840420110400L, 0x0008020290040011L, 0x4000008808280421L, 0x074008420211200CL,
+            0x0408040408088814L, 0x0042400808010C00L, 0x0002001000220224L, 0x004A400401020201L,
+            0x4202020402111002L, 0x0019008080414030L, 0x0000A10208010800L, 0x0003808044142109L,
+            0x0002A08010045040L, 0x08A21001091000A0L, 0x8029880010052020L, 0x1284002008120040L,
+            0x2081001005004009L, 0x40410500060080A0L, 0x49008C0C06011401L, 0xE8008200050100C0L,
+            0xA090482020044500L, 0x00109210E8200440L, 0x0480425010080020L, 0xC500020082480080L,
+            0x22840040102C0100L, 0x0001100900002400L, 0x3A10132120214400L, 0x0001240084210062L,
+            0x0282101088220480L, 0x041A164120000400L, 0x0000140024008804L, 0x5080004010420200L,
+            0x0020841008808C00L, 0x0102681001010021L, 0x1004100091000A08L, 0x0010220081280300L,
+            0xC051040220040A10L, 0x0B21004802080440L, 0x08000422011022C6L, 0x1100020C84110402L,
+            0x2818400910240504L, 0x0000A00401220010L, 0x02042002820201C0L, 0x1010101500419020L,
+            0x5001840498140200L, 0x002C008080882008L, 0x00100A02240A0806L, 0x0051040000840402L,
+            0x0000400021042402L, 0x8880400920880080L, 0x0058101041014C00L, 0x8088680804802200L };
+
+    /**
+     * The number of tiles.
+     */
+    private static final int SQUARES = 64;
+
+    /**
+     * The rook tables.
+     */
+    private static final Table ROOK = new Table(ROOK_MAGICS, false);
+
+    /**
+     * The bishop tables.
+     */
+    private static final Table BISHOP = new Table(BISHOP_MAGICS, true);
+
+    // Private constructor
+    private Magics() {
+    }
+
+    /**
+     * Returns a mask of all tiles a rook on the tile with the given ordinal
+     * attacks on a board with the given occupancy.
+     *
+     * @param square   the ordinal of the position of the rook.
+     * @param occupied the mask of all occupied tiles.
+     * @return the tiles the rook attacks.
+     */
+    static long rookAttacks(int square, long occupied) {
+        return ROOK.attacks(square, occupied);
+    }
+
+    /**
+     * Returns a mask of all tiles a bishop on the tile with the given ordinal
+     * attacks on a board with the given occupancy.
+     *
+     * @param square   the ordinal of the position of the bishop.
+     * @param occupied the mask of all occupied tiles.
+     * @return the tiles the bishop attacks.
+     */
+    static long bishopAttacks(int square, long occupied) {
+        return BISHOP.attacks(square, occupied);
+    }
+
+    /**
+     * Checks the tables against the semantics of {@link Piece#isValid(Tile, Tile)}
+     * and {@link Tile#path(Tile, Tile)} for a number of occupancies. A tile is
+     * expected to be attacked if the piece can move there in principle and the
+     * path in between is clear.
+     *
+     * @throws IllegalStateException if any attack mask deviates.
+     */
+    public static void verify() {
+        SplittableRandom random = new SplittableRandom(SQUARES);
+        Piece rook = Rook.white();
+        Piece bishop = Bishop.white();
+        for (int sample = 0; sample < 256; sample++) {
+            long occupied = sample == 0 ? 0L : sample == 1 ? -1L : random.nextLong() & random.nextLong();
+            for (Tile start : Tile.values()) {
+                long rookAttacks = rookAttacks(start.ordinal(), occupied);
+                long bishopAttacks = bishopAttacks(start.ordinal(), occupied);
+                for (Tile end : Tile.values()) {
+                    if (start != end) {
+                        check(rook, start, end, occupied, rookAttacks);
+                        check(bishop, start, end, occupied, bishopAttacks);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Throws an IllegalStateException if the attacks disagree with the move of the
+     * piece from start to end.
+     */
+    private static void check(Piece piece, Tile start, Tile end, long occupied, long attacks) {
+        boolean expected = piece.isValid(start, end) && Tile.path(start, end).stream()
+                .noneMatch(tile -> (tile.mask() & occupied) != 0L);
+        if (expected != ((attacks & end.mask()) != 0L)) {
+            throw new IllegalStateException(String.format("The %s attacks from %s to %s deviate for occupancy %016X.",
+                    piece.type(), start, end, occupied));
+        }
+    }
+
+    /**
+     * The masks, magic numbers, shifts and attacks of one type of sliding piece.
+     */
+    private static final class Table {
+
+        /**
+         * The relevant occupancy mask of each tile.
+         */
+        private final long[] masks = new long[SQUARES];
+
+        /**
+         * The magic number of each tile.
+         */
+        private final long[] magics;
+
+        /**
+         * The shift of each tile, which is 64 minus the number of relevant bits.
+         */
+        private final int[] shifts = new int[SQUARES];
+
+        /**
+         * The offset of the attacks of each tile in the attack table.
+         */
+        private final int[] offsets = new int[SQUARES];
+
+        /**
+         * The attacks of all tiles for all relevant occupancies.
+         */
+        private final long[] attacks;
+
+        // Constructor fills the table.
+        Table(long[] magics, boolean diagonal) {
+            this.magics = magics;
+            int size = 0;
+            for (int square = 0; square < SQUARES; square++) {
+                long mask = 0L;
+                for (Direction direction : Direction.values()) {
+                    if (direction.isDiagonal() == diagonal) {
+                        // The last tile of a ray never blocks anything behind it.
+                        long ray = Bitboards.ray(direction, square);
+                        long edge = direction.isIncreasing() ? Long.highestOneBit(ray) : Long.lowestOneBit(ray);
+                        mask |= ray & ~edge;
+                    }
+                }
+                masks[square] = mask;
+                shifts[square] = SQUARES - Long.bitCount(mask);
+                offsets[square] = size;
+                size += 1 << Long.bitCount(mask);
+            }
+            attacks = new long[size];
+            for (int square = 0; square < SQUARES; square++) {
+                // Enumerate all subsets of the mask by the carry-rippler trick.
+                long mask = masks[square];
+                long occupied = 0L;
+                do {
+                    long slow = 0L;
+                    for (Direction direction : Direction.values()) {
+                        if (direction.isDiagonal() == diagonal) {
+                            slow |= Bitboards.slidingAttacks(direction, square, occupied);
+                        }
+                    }
+                    int index = offsets[square] + (int) ((occupied * magics[square]) >>> shifts[square]);
+                    if (attacks[index] != 0L && attacks[index] != slow) {
+                        throw new ExceptionInInitializerError("Invalid magic number for tile " + square);
+                    }
+                    attacks[index] = slow;
+                    occupied = (occupied - mask) & mask;
+                } while (occupied != 0L);
+            }
+        }
+
+        /*
+         * Returns the attacks from the square for the given occupancy.
+         */
+        long attacks(int square, long occupied) {
+            return attacks[offsets[square] + (int) (((occupied & masks[square]) * magics[square]) >>> shifts[square])];
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package org.chess4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.chess4j.Player.Color;
+import org.chess4j.moves.Move;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.PackedMove;
+import org.chess4j.moves.Rochade;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * A mutable position holds a single board together with the side to move, the
+ * castling rights and the en-passant target tile. Moves are applied in place by
+ * {@link #makeMove(Move)} and reverted by {@link #unmakeMove()}, which restores
+ * the previous state from an undo stack. Opposed to the {@link Move} classes,
+ * which create a new initial and result board for every move, a mutable
+ * position allows to try candidate moves without allocating boards.
+ * <p>
+ * The position does not validate the moves it is given. Every move must be
+ * valid in the current position, which is what the {@code isValid} methods of
+ * the move classes check. A position is not thread-safe.
+ */
+public final class MutablePosition {
+
+    /**
+     * The letters of the piece types in Forsyth-Edwards Notation, indexed by the
+     * ordinal of the type.
+     */
+    private static final String FEN_PIECES = "prnbqk";
+
+    /**
+     * The letters of the castling rights in Forsyth-Edwards Notation, indexed by
+     * the bit of the flag declared in {@link Rochade}.
+     */
+    private static final String FEN_CASTLING = "KQkq";
+
+    /**
+     * The board on which all moves are made.
+     */
+    private final BitboardBoard board;
+
+    /**
+     * The unmodifiable view of the board.
+     */
+    private final Board view;
+
+    /**
+     * The color of the player whose turn it is.
+     */
+    private Color sideToMove;
+
+    /**
+     * The castling rights as a combination of the flags declared in
+     * {@link Rochade}.
+     */
+    private int castlingRights;
+
+    /**
+     * The tile the last move leaped over or {@code null}.
+     */
+    private Tile enPassant;
+
+    /**
+     * The undo records of all made moves. Records are reused once allocated.
+     */
+    private Undo[] undos = new Undo[16];
+
+    /**
+     * The number of made moves that can be reverted.
+     */
+    private int depth;
+
+    /**
+     * Constructs a position with the given board and state.
+     *
+     * @param board          the placement of the pieces, which is copied.
+     * @param sideToMove     the color of the player whose turn it is.
+     * @param castlingRights the castling rights.
+     * @param enPassant      the en-passant target tile or {@code null}.
+     */
+    public MutablePosition(Board board, Color sideToMove, int castlingRights, Tile enPassant) {
+        this.board = new BitboardBoard(Objects.requireNonNull(board));
+        this.view = Board.unmodifiable(this.board);
+        this.sideToMove = Objects.requireNonNull(sideToMove);
+        this.castlingRights = castlingRights;
+        this.enPassant = enPassant;
+    }
+
+    /**
+     * Constructs a position with the current state of the given chronicle.
+     *
+     * @param chronicle the history of the game.
+     * @return the current position of the game.
+     */
+    public static MutablePosition of(Chronicle chronicle) {
+        return new MutablePosition(chronicle.current(), chronicle.sideToMove(), chronicle.castlingRights(),
+                chronicle.enPassant());
+    }
+
+    /**
+     * Constructs a position from the given position in Forsyth-Edwards Notation.
+     * The fields for the halfmove clock and the move number are optional and
+     * ignored.
+     *
+     * @param fen the position in Forsyth-Edwards Notation.
+     * @return the described position.
+     * @throws IllegalArgumentException if the notation is malformed.
+     */
+    public static MutablePosition ofFen(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("The FEN must contain at least four fields: " + fen);
+        }
+        Board board = new BitboardBoard();
+        int square = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                if (square % 8 != 0) {
+                    throw new IllegalArgumentException("Incomplete rank in FEN: " + fen);
+                }
+            } else if (Character.isDigit(c)) {
+                square += c - '0';
+            } else {
+                int type = FEN_PIECES.indexOf(Character.toLowerCase(c));
+                if (type < 0 || square >= Tile.values().length) {
+                    throw new IllegalArgumentException("Invalid piece placement in FEN: " + fen);
+                }
+                Color color = Character.isUpperCase(c) ? Color.WHITE : Color.BLACK;
+                board.put(Tile.ofOrdinal(square++), Piece.of(color, Type.values()[type]));
+            }
+        }
+        if (square != Tile.values().length) {
+            throw new IllegalArgumentException("Invalid piece placement in FEN: " + fen);
+        }
+
+        Color sideToMove;
+        if (fields[1].equals("w")) {
+            sideToMove = Color.WHITE;
+        } else if (fields[1].equals("b")) {
+            sideToMove = Color.BLACK;
+        } else {
+            throw new IllegalArgumentException("Invalid side to move in FEN: " + fen);
+        }
+
+        int castlingRights = 0;
+        if (!fields[2].equals("-")) {
+            for (char c : fields[2].toCharArray()) {
+                int flag = FEN_CASTLING.indexOf(c);
+                if (flag < 0) {
+                    throw new IllegalArgumentException("Invalid castling rights in FEN: " + fen);
+                }
+                castlingRights |= 1 << flag;
+            }
+        }
+
+        Tile enPassant = null;
+        if (!fields[3].equals("-")) {
+            try {
+                enPassant = Tile.valueOf(fields[3]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid en-passant tile in FEN: " + fen, e);
+            }
+        }
+        return new MutablePosition(board, sideToMove, castlingRights, enPassant);
+    }
+
+    /**
+     * Returns a new position with the board and state of this position. The
+     * moves made on this position cannot be unmade on the copy.
+     *
+     * @return a copy of this position.
+     */
+    public MutablePosition copy() {
+        return new MutablePosition(board, sideToMove, castlingRights, enPassant);
+    }
+
+    /**
+     * Returns an unmodifiable view of the board of this position, which reflects
+     * all moves that are made or unmade.
+     *
+     * @return the current board.
+     */
+    public Board board() {
+        return view;
+    }
+
+    /**
+     * Returns the color of the player whose turn it is.
+     *
+     * @return the side to move.
+     */
+    public Color sideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Returns the castling rights as a combination of the flags declared in
+     * {@link Rochade}.
+     *
+     * @return the castling rights.
+     */
+    public int castlingRights() {
+        return castlingRights;
+    }
+
+    /**
+     * Returns the tile the last move leaped over or {@code null}.
+     *
+     * @return the en-passant target tile.
+     */
+    public Tile enPassant() {
+        return enPassant;
+    }
+
+    /**
+     * Returns the number of moves that can be reverted by {@link #unmakeMove()}.
+     *
+     * @return the number of made moves.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Forgets all made moves, so that the current state becomes the base of this
+     * position and none of them can be reverted any more. The undo records are
+     * kept for reuse but no longer refer to pieces.
+     */
+    public void clearHistory() {
+        for (int i = 0; i < depth; i++) {
+            undos[i].moved = null;
+            undos[i].captured = null;
+        }
+        depth = 0;
+    }
+
+    /**
+     * Returns the Zobrist key of this position.
+     *
+     * @return the key of the position.
+     * @see Zobrist#key(Board, Color, int, Tile)
+     */
+    public long key() {
+        return Zobrist.key(board, sideToMove, castlingRights, enPassant);
+    }
+
+    /**
+     * Returns {@code true} if the player of the given color is in check.
+     *
+     * @param color the color of the player.
+     * @return {@code true} if the king of the given color can be captured.
+     */
+    public boolean inCheck(Color color) {
+        return Player.inCheck(board, color);
+    }
+
+    /**
+     * Applies the given move to this position.
+     *
+     * @param move a move that is valid in this position.
+     */
+    public void makeMove(Move move) {
+        makeMove(PackedMove.of(move));
+    }
+
+    /**
+     * Applies the move of the given kind from start to end to this position. The
+     * move must be valid in this position.
+     *
+     * @param start the start tile of the move.
+     * @param end   the end tile of the move.
+     * @param kind  the kind of the move.
+     */
+    public void makeMove(Tile start, Tile end, Kind kind) {
+        makeMove(start, end, kind, null);
+    }
+
+    /**
+     * Applies the given packed move to this position. The move must be valid in
+     * this position.
+     *
+     * @param move the packed move.
+     * @see PackedMove
+     */
+    public void makeMove(int move) {
+        makeMove(PackedMove.start(move), PackedMove.end(move), PackedMove.kind(move), PackedMove.promotion(move));
+    }
+
+    /**
+     * Applies the move of the given kind from start to end to this position and
+     * replaces the moved pawn by a new piece of the given promotion type if it is
+     * not {@code null}. The move must be valid in this position.
+     *
+     * @param start     the start tile of the move.
+     * @param end       the end tile of the move.
+     * @param kind      the kind of the move.
+     * @param promotion the type the moved pawn is promoted to or {@code null}.
+     */
+    public void makeMove(Tile start, Tile end, Kind kind, Type promotion) {
+        Undo undo = push();
+        undo.start = start;
+        undo.end = end;
+        undo.kind = kind;
+        undo.castlingRights = castlingRights;
+        undo.enPassant = enPassant;
+
+        Piece moved = board.remove(start);
+        undo.moved = moved;
+        switch (kind) {
+        case EN_PASSANTE:
+            undo.captured = board.remove(Tile.valueOf(end.column(), start.row()));
+            break;
+        case ROCHADE:
+            undo.captured = null;
+            board.put(rookEnd(start, end), board.remove(rookStart(start, end)));
+            break;
+        default:
+            undo.captured = board.remove(end);
+            break;
+        }
+        board.put(end, promotion == null ? moved : Piece.of(moved.color(), promotion));
+
+        castlingRights = Rochade.remainingRights(castlingRights, start, end);
+        enPassant = kind == Kind.PAWN_LEAP ? Tile.valueOf(start.column(), (start.row() + end.row()) / 2) : null;
+        sideToMove = sideToMove.swap();
+    }
+
+    /**
+     * Reverts the move made last and restores the previous state.
+     *
+     * @throws IllegalStateException if no move has been made.
+     */
+    public void unmakeMove() {
+        if (depth == 0) {
+            throw new IllegalStateException("There is no move to unmake.");
+        }
+        Undo undo = undos[--depth];
+        Tile start = undo.start;
+        Tile end = undo.end;
+
+        board.remove(end);
+        board.put(start, undo.moved);
+        switch (undo.kind) {
+        case EN_PASSANTE:
+            board.put(Tile.valueOf(end.column(), start.row()), undo.captured);
+            break;
+        case ROCHADE:
+            board.put(rookStart(start, end), board.remove(rookEnd(start, end)));
+            break;
+        default:
+            if (undo.captured != null) {
+                board.put(end, undo.captured);
+            }
+            break;
+        }
+
+        castlingRights = undo.castlingRights;
+        enPassant = undo.enPassant;
+        sideToMove = sideToMove.swap();
+        undo.moved = null;
+        undo.captured = null;
+    }
+
+    /*
+     * Returns the next free undo record and grows the stack if necessary.
+     */
+    private Undo push() {
+        if (depth == undos.length) {
+            undos = Arrays.copyOf(undos, depth * 2);
+        }
+        Undo undo = undos[depth];
+        if (undo == null) {
+            undo = new Undo();
+            undos[depth] = undo;
+        }
+        depth++;
+        return undo;
+    }
+
+    /*
+     * Returns the tile of the rook involved in the rochade of the king.
+     */
+    private static Tile rookStart(Tile start, Tile end) {
+        return Tile.valueOf(end.column() > start.column() ? 8 : 1, start.row());
+    }
+
+    /*
+     * Returns the tile the rook is moved to in the rochade of the king.
+     */
+    private static Tile rookEnd(Tile start, Tile end) {
+        return Tile.valueOf((start.column() + end.column()) / 2, start.row());
+    }
+
+    /**
+     * The state that is needed to revert a move.
+     */
+    private static final class Undo {
+
+        /**
+         * The start tile of the move.
+         */
+        private Tile start;
+
+        /**
+         * The end tile of the move.
+         */
+        private Tile end;
+
+        /**
+         * The kind of the move.
+         */
+        private Kind kind;
+
+        /**
+         * The moved piece.
+         */
+        private Piece moved;
+
+        /**
+         * The captured piece or {@code null}.
+         */
+        private Piece captured;
+
+        /**
+         * The castling rights before the move.
+         */
+        private int castlingRights;
+
+        /**
+         * The en-passant target tile before the move.
+         */
+        private Tile enPassant;
+    }
+}
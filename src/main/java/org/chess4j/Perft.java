@@ -0,0 +1,275 @@
+package org.chess4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.chess4j.moves.MoveGenerator;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.PackedMove;
+
+/**
+ * Counts the leaf nodes of the tree of legal moves up to a fixed depth, which
+ * is known as perft. As the node counts of many positions are published, perft
+ * verifies the move generation of {@link MoveGenerator} and measures its speed
+ * at the same time. The moves of the last ply are counted instead of made.
+ * <p>
+ * Deep counts can be split across the threads of a {@link ForkJoinPool}, see
+ * {@link #perft(MutablePosition, int, ForkJoinPool)}, and repeated subtrees can
+ * be looked up in a {@link PerftTable} instead of being counted again.
+ */
+public final class Perft {
+
+    /**
+     * The depth up to which a subtree is always counted by a single thread.
+     */
+    private static final int SERIAL_DEPTH = 3;
+
+    /**
+     * The number of queued tasks of a worker above which it stops splitting.
+     */
+    private static final int SURPLUS = 3;
+
+    /**
+     * The smallest depth of a subtree whose count is looked up in a table.
+     */
+    private static final int HASH_DEPTH = 2;
+
+    // Private constructor
+    private Perft() {
+    }
+
+    /**
+     * Returns the number of leaf nodes of the tree of legal moves of the given
+     * depth. The position is left unchanged.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies.
+     * @return the number of leaf nodes.
+     * @throws IllegalArgumentException if the depth is negative.
+     */
+    public static long perft(MutablePosition position, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth must not be negative.");
+        }
+        return perft(position, depth, lists(depth), null);
+    }
+
+    /**
+     * Returns the number of leaf nodes of the tree of legal moves of the given
+     * depth, looking up the counts of subtrees in the given table and storing
+     * those it had to count. The count equals the result of
+     * {@link #perft(MutablePosition, int)}, and the position is left unchanged.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies.
+     * @param table    the table of subtree counts.
+     * @return the number of leaf nodes.
+     * @throws IllegalArgumentException if the depth is negative.
+     */
+    public static long perft(MutablePosition position, int depth, PerftTable table) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth must not be negative.");
+        }
+        return perft(position, depth, lists(depth), Objects.requireNonNull(table));
+    }
+
+    /**
+     * Returns the number of leaf nodes of the tree of legal moves of the given
+     * depth, counted by the threads of the given pool. Every move of the root
+     * and of the plies below forms a task with its own copy of the position,
+     * until either the remaining depth is small or the worker already holds
+     * enough queued tasks for idle threads to steal. The count equals the
+     * result of {@link #perft(MutablePosition, int)}, and the position is left
+     * unchanged.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies.
+     * @param pool     the pool the count is split across.
+     * @return the number of leaf nodes.
+     * @throws IllegalArgumentException if the depth is negative.
+     */
+    public static long perft(MutablePosition position, int depth, ForkJoinPool pool) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth must not be negative.");
+        }
+        return pool.invoke(new PerftTask(position.copy(), depth, null));
+    }
+
+    /**
+     * Returns the number of leaf nodes of the tree of legal moves of the given
+     * depth, counted by the threads of the given pool, which share the given
+     * table of subtree counts.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies.
+     * @param pool     the pool the count is split across.
+     * @param table    the table of subtree counts.
+     * @return the number of leaf nodes.
+     * @throws IllegalArgumentException if the depth is negative.
+     * @see #perft(MutablePosition, int, ForkJoinPool)
+     * @see #perft(MutablePosition, int, PerftTable)
+     */
+    public static long perft(MutablePosition position, int depth, ForkJoinPool pool, PerftTable table) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth must not be negative.");
+        }
+        return pool.invoke(new PerftTask(position.copy(), depth, Objects.requireNonNull(table)));
+    }
+
+    /**
+     * Returns the number of leaf nodes below every legal move of the root
+     * position in coordinate notation, which helps to locate a wrong count by
+     * comparing it with another move generator. The sum of all counts is the
+     * result of {@link #perft(MutablePosition, int)}.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies including the root move.
+     * @return the leaf count of every root move in the order of generation.
+     * @throws IllegalArgumentException if the depth is not positive.
+     */
+    public static Map<String, Long> divide(MutablePosition position, int depth) {
+        return divide(position, depth, null);
+    }
+
+    /**
+     * Returns the number of leaf nodes below every legal move of the root
+     * position like {@link #divide(MutablePosition, int)}, looking up the counts
+     * of subtrees in the given table.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies including the root move.
+     * @param table    the table of subtree counts or {@code null}.
+     * @return the leaf count of every root move in the order of generation.
+     * @throws IllegalArgumentException if the depth is not positive.
+     */
+    public static Map<String, Long> divide(MutablePosition position, int depth, PerftTable table) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("The depth must be positive.");
+        }
+        MoveList[] lists = lists(depth);
+        MoveList moves = lists[depth];
+        moves.clear();
+        MoveGenerator.legalMoves(position, moves);
+        Map<String, Long> divide = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            position.makeMove(move);
+            divide.put(PackedMove.toString(move), perft(position, depth - 1, lists, table));
+            position.unmakeMove();
+        }
+        return divide;
+    }
+
+    /*
+     * Counts the leaf nodes with one move list per ply and an optional table.
+     */
+    private static long perft(MutablePosition position, int depth, MoveList[] lists, PerftTable table) {
+        if (depth == 0) {
+            return 1L;
+        }
+        long key = 0L;
+        if (table != null && depth >= HASH_DEPTH) {
+            key = position.key();
+            long nodes = table.probe(key, depth);
+            if (nodes >= 0L) {
+                return nodes;
+            }
+        }
+        MoveList moves = lists[depth];
+        moves.clear();
+        MoveGenerator.legalMoves(position, moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0L;
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            nodes += perft(position, depth - 1, lists, table);
+            position.unmakeMove();
+        }
+        if (table != null) {
+            table.store(key, depth, nodes);
+        }
+        return nodes;
+    }
+
+    /*
+     * Returns a move list for every ply up to the given depth.
+     */
+    private static MoveList[] lists(int depth) {
+        MoveList[] lists = new MoveList[depth + 1];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = new MoveList();
+        }
+        return lists;
+    }
+
+    /**
+     * Counts the leaf nodes below a position that is owned by the task.
+     */
+    private static final class PerftTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The position of the task.
+         */
+        private final MutablePosition position;
+
+        /**
+         * The remaining number of plies.
+         */
+        private final int depth;
+
+        /**
+         * The shared table of subtree counts or {@code null}.
+         */
+        private final PerftTable table;
+
+        // Private constructor
+        private PerftTask(MutablePosition position, int depth, PerftTable table) {
+            this.position = position;
+            this.depth = depth;
+            this.table = table;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Long compute() {
+            if (depth <= SERIAL_DEPTH || getSurplusQueuedTaskCount() > SURPLUS) {
+                return perft(position, depth, lists(depth), table);
+            }
+            long key = 0L;
+            if (table != null) {
+                key = position.key();
+                long nodes = table.probe(key, depth);
+                if (nodes >= 0L) {
+                    return nodes;
+                }
+            }
+            MoveList moves = new MoveList();
+            MoveGenerator.legalMoves(position, moves);
+            List<PerftTask> tasks = new ArrayList<>(moves.size());
+            for (int i = 0; i < moves.size(); i++) {
+                position.makeMove(moves.get(i));
+                tasks.add(new PerftTask(position.copy(), depth - 1, table));
+                position.unmakeMove();
+            }
+            long nodes = 0L;
+            for (PerftTask task : invokeAll(tasks)) {
+                nodes += task.join();
+            }
+            if (table != null) {
+                table.store(key, depth, nodes);
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.chess4j;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+
+import org.chess4j.Player.Color;
+import org.chess4j.moves.Rochade;
+
+/**
+ * Runner class for counting the leaf nodes of a position with {@link Perft}.
+ * The first argument is the depth, the optional remaining arguments form a
+ * position in Forsyth-Edwards Notation. Without a position the initial position
+ * of a game is used. The leaf count of every root move is printed, followed by
+ * the total, the elapsed time and the nodes per second.
+ * <p>
+ * If the depth is preceded by {@code -parallel}, the position is counted with
+ * one, two, four and so on up to all available threads instead, and the time
+ * and speedup over a single thread is printed for every thread count. With
+ * {@code -hash} followed by a size in megabytes, the counts of repeated
+ * subtrees are looked up in a {@link PerftTable} of that size, and its hit rate
+ * is printed as well. A table is cleared for every thread count.
+ */
+public final class PerftRunner {
+
+    /**
+     * Main method for running perft, for example {@code 5} or
+     * {@code 3 r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq -}.
+     */
+    public static void main(String[] args) {
+        int first = 0;
+        boolean parallel = false;
+        PerftTable table = null;
+        while (first < args.length && args[first].startsWith("-")) {
+            if (args[first].equals("-parallel")) {
+                parallel = true;
+                first++;
+            } else if (args[first].equals("-hash") && first + 1 < args.length) {
+                table = new PerftTable(Integer.parseInt(args[first + 1]));
+                first += 2;
+            } else {
+                break;
+            }
+        }
+        if (first == args.length || args[first].startsWith("-")) {
+            System.out.println("Usage: PerftRunner [-parallel] [-hash <megabytes>] <depth> [FEN]");
+            return;
+        }
+        int depth = Integer.parseInt(args[first]);
+        MutablePosition position;
+        if (args.length > first + 1) {
+            position = MutablePosition.ofFen(String.join(" ", Arrays.copyOfRange(args, first + 1, args.length)));
+        } else {
+            position = new MutablePosition(Board.newGame(), Color.WHITE,
+                    Rochade.WHITE_SHORT | Rochade.WHITE_LONG | Rochade.BLACK_SHORT | Rochade.BLACK_LONG, null);
+        }
+        if (parallel) {
+            printSpeedup(position, depth, table);
+            return;
+        }
+
+        long start = System.nanoTime();
+        Map<String, Long> divide = Perft.divide(position, depth, table);
+        long elapsed = System.nanoTime() - start;
+
+        long nodes = 0L;
+        for (Entry<String, Long> entry : divide.entrySet()) {
+            System.out.println(String.format("%s: %d", entry.getKey(), entry.getValue()));
+            nodes += entry.getValue();
+        }
+        double seconds = elapsed / 1e9;
+        System.out.println();
+        System.out.println(String.format("Moves: %d", divide.size()));
+        System.out.println(String.format("Nodes: %d", nodes));
+        System.out.println(String.format("Time: %.3f s", seconds));
+        System.out.println(String.format("Nodes/s: %.0f", seconds > 0 ? nodes / seconds : 0.0));
+        if (table != null) {
+            System.out.println(String.format("Hash hits: %.1f %%", 100 * table.hitRate()));
+        }
+    }
+
+    /**
+     * Prints the node count, time and speedup of a parallel count for every
+     * thread count from one up to the number of available processors.
+     *
+     * @param position the root position.
+     * @param depth    the number of plies.
+     * @param table    the table of subtree counts or {@code null}.
+     */
+    private static void printSpeedup(MutablePosition position, int depth, PerftTable table) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        double single = 0.0;
+        for (int threads = 1; threads <= processors; threads = threads == processors ? threads + 1
+                : Math.min(threads * 2, processors)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long start = System.nanoTime();
+                long nodes;
+                if (table == null) {
+                    nodes = Perft.perft(position, depth, pool);
+                } else {
+                    table.clear();
+                    nodes = Perft.perft(position, depth, pool, table);
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                if (threads == 1) {
+                    single = seconds;
+                }
+                String line = String.format("Threads: %d\tNodes: %d\tTime: %.3f s\tNodes/s: %.0f\tSpeedup: %.2f",
+                        threads, nodes, seconds, nodes / seconds, single / seconds);
+                if (table != null) {
+                    line += String.format("\tHash hits: %.1f %%", 100 * table.hitRate());
+                }
+                System.out.println(line);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
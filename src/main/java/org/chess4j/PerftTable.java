@@ -0,0 +1,177 @@
+package org.chess4j;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size hash table of the leaf counts of perft subtrees, keyed by the
+ * Zobrist key of the position and the remaining depth, see
+ * {@link Perft#perft(MutablePosition, int, PerftTable)}. Transpositions reach
+ * the same position along different move orders, so a subtree that has been
+ * counted once does not need to be counted again.
+ * <p>
+ * The table can be shared by many threads without locks. Every entry is stored
+ * as two words, the count together with the depth and the key xor that word. A
+ * lookup only hits if both words reproduce the full key and the depth, so an
+ * entry that is torn by two concurrent writes or that belongs to another key
+ * mapping to the same slot is treated as a miss instead of a false hit. New
+ * entries always replace old ones.
+ */
+public final class PerftTable {
+
+    /**
+     * The number of bytes of an entry.
+     */
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+
+    /**
+     * The number of bits of the depth within the data word of an entry.
+     */
+    private static final int DEPTH_BITS = 8;
+
+    /**
+     * The mask of the depth within the data word of an entry.
+     */
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+    /**
+     * Odd constant that spreads the depth over the index bits.
+     */
+    private static final long DEPTH_SPREAD = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The entries, the verification word at even and the data word at odd
+     * indices.
+     */
+    private final AtomicLongArray entries;
+
+    /**
+     * The mask of the slot index.
+     */
+    private final int mask;
+
+    /**
+     * The number of lookups.
+     */
+    private final LongAdder probes = new LongAdder();
+
+    /**
+     * The number of lookups that found a count.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Constructs a table that occupies at most the given number of megabytes. The
+     * number of entries is the largest power of two that fits.
+     *
+     * @param megabytes the size of the table in megabytes.
+     * @throws IllegalArgumentException if the size is not positive or exceeds
+     *                                  the largest possible array.
+     */
+    public PerftTable(int megabytes) {
+        if (megabytes <= 0) {
+            throw new IllegalArgumentException("The size of the table must be positive.");
+        }
+        long slots = Long.highestOneBit((long) megabytes * 1024 * 1024 / ENTRY_BYTES);
+        if (2 * slots > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The table cannot hold more than 2^29 entries.");
+        }
+        this.entries = new AtomicLongArray((int) (2 * slots));
+        this.mask = (int) slots - 1;
+    }
+
+    /**
+     * Returns the leaf count stored for the given key and depth or {@code -1} if
+     * there is none.
+     *
+     * @param key   the Zobrist key of the position.
+     * @param depth the remaining depth.
+     * @return the leaf count or {@code -1}.
+     */
+    public long probe(long key, int depth) {
+        probes.increment();
+        int index = index(key, depth);
+        long data = entries.getOpaque(index + 1);
+        if ((entries.getOpaque(index) ^ data) != key || (data & DEPTH_MASK) != depth) {
+            return -1L;
+        }
+        hits.increment();
+        return data >>> DEPTH_BITS;
+    }
+
+    /**
+     * Stores the leaf count for the given key and depth.
+     *
+     * @param key   the Zobrist key of the position.
+     * @param depth the remaining depth, at most 255.
+     * @param nodes the leaf count.
+     * @throws IllegalArgumentException if the depth is out of range.
+     */
+    public void store(long key, int depth, long nodes) {
+        if (depth < 0 || depth > DEPTH_MASK) {
+            throw new IllegalArgumentException("The depth must be between 0 and " + DEPTH_MASK + ".");
+        }
+        int index = index(key, depth);
+        long data = nodes << DEPTH_BITS | depth;
+        entries.setOpaque(index, key ^ data);
+        entries.setOpaque(index + 1, data);
+    }
+
+    /**
+     * Returns the number of entries the table can hold.
+     *
+     * @return the capacity of the table.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of lookups since the table was created or cleared.
+     *
+     * @return the number of lookups.
+     */
+    public long probes() {
+        return probes.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found a count.
+     *
+     * @return the number of hits.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the share of lookups that found a count or {@code 0} if there were
+     * no lookups.
+     *
+     * @return the hit rate between 0 and 1.
+     */
+    public double hitRate() {
+        long probes = probes();
+        return probes == 0L ? 0.0 : (double) hits() / probes;
+    }
+
+    /**
+     * Removes all entries and resets the statistics. The table must not be used
+     * by other threads at the same time.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.setPlain(i, 0L);
+        }
+        probes.reset();
+        hits.reset();
+    }
+
+    /*
+     * Returns the index of the verification word of the slot of the key and depth.
+     */
+    private int index(long key, int depth) {
+        long hash = key + depth * DEPTH_SPREAD;
+        return ((int) (hash ^ hash >>> 32) & mask) << 1;
+    }
+}
@@ -0,0 +1,493 @@
+package org.chess4j;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.chess4j.Player.Color;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * A persistent board is an immutable board from which changed boards are
+ * derived by {@link #with(Tile, Piece)}, {@link #without(Tile)} and
+ * {@link #move(Tile, Tile)} instead of being modified in place. The board holds
+ * nothing but the twelve masks of the piece colors and types and the Zobrist
+ * key of the placement in fields of its own, and a piece is looked up in the
+ * masks and answered by one shared instance per color and type. Instead of
+ * sharing structure with the board it is derived from by path copying, a
+ * derived board is a flat copy of these thirteen words with the one or two
+ * changed masks replaced. As a board refers to no arrays, deriving a board
+ * allocates the new board object only and the flat copy is smaller than the
+ * path to a shared leaf would be.
+ * <p>
+ * As the boards of a game differ in a few tiles from one move to the next, the
+ * boards of the moves in a {@link Chronicle} are kept as persistent boards. All
+ * {@link Board} methods that would modify the board throw an
+ * {@link UnsupportedOperationException}.
+ */
+public final class PersistentBoard extends AbstractBoard {
+
+    /**
+     * The number of masks, one per piece color and type.
+     */
+    private static final int MASKS = Piece.TYPES * Color.values().length;
+
+    /**
+     * The shared piece of every code.
+     */
+    private static final Piece[] PIECES = new Piece[MASKS];
+
+    static {
+        for (int code = 0; code < MASKS; code++) {
+            PIECES[code] = Piece.ofCode(code);
+        }
+    }
+
+    /**
+     * The empty board.
+     */
+    private static final PersistentBoard EMPTY = new PersistentBoard(null, -1, 0L, -1, 0L, 0L);
+
+    /*
+     * The masks of the pieces in the order of their codes.
+     */
+    private final long whitePawns;
+    private final long whiteRooks;
+    private final long whiteKnights;
+    private final long whiteBishops;
+    private final long whiteQueens;
+    private final long whiteKings;
+    private final long blackPawns;
+    private final long blackRooks;
+    private final long blackKnights;
+    private final long blackBishops;
+    private final long blackQueens;
+    private final long blackKings;
+
+    /**
+     * The Zobrist key of the piece placement.
+     */
+    private final long key;
+
+    /*
+     * Constructs a copy of the given board, or of the empty board if it is null,
+     * with the masks of the codes first and second replaced. A code of -1
+     * replaces no mask.
+     */
+    private PersistentBoard(PersistentBoard board, int first, long firstMask, int second, long secondMask,
+            long key) {
+        this.whitePawns = replaced(board, 0, first, firstMask, second, secondMask);
+        this.whiteRooks = replaced(board, 1, first, firstMask, second, secondMask);
+        this.whiteKnights = replaced(board, 2, first, firstMask, second, secondMask);
+        this.whiteBishops = replaced(board, 3, first, firstMask, second, secondMask);
+        this.whiteQueens = replaced(board, 4, first, firstMask, second, secondMask);
+        this.whiteKings = replaced(board, 5, first, firstMask, second, secondMask);
+        this.blackPawns = replaced(board, 6, first, firstMask, second, secondMask);
+        this.blackRooks = replaced(board, 7, first, firstMask, second, secondMask);
+        this.blackKnights = replaced(board, 8, first, firstMask, second, secondMask);
+        this.blackBishops = replaced(board, 9, first, firstMask, second, secondMask);
+        this.blackQueens = replaced(board, 10, first, firstMask, second, secondMask);
+        this.blackKings = replaced(board, 11, first, firstMask, second, secondMask);
+        this.key = key;
+    }
+
+    /*
+     * Constructs a board with the masks of the given board and the given key.
+     */
+    private PersistentBoard(Board board, long key) {
+        this.whitePawns = board.pieces(Color.WHITE, Type.PAWN);
+        this.whiteRooks = board.pieces(Color.WHITE, Type.ROOK);
+        this.whiteKnights = board.pieces(Color.WHITE, Type.KNIGHT);
+        this.whiteBishops = board.pieces(Color.WHITE, Type.BISHOP);
+        this.whiteQueens = board.pieces(Color.WHITE, Type.QUEEN);
+        this.whiteKings = board.pieces(Color.WHITE, Type.KING);
+        this.blackPawns = board.pieces(Color.BLACK, Type.PAWN);
+        this.blackRooks = board.pieces(Color.BLACK, Type.ROOK);
+        this.blackKnights = board.pieces(Color.BLACK, Type.KNIGHT);
+        this.blackBishops = board.pieces(Color.BLACK, Type.BISHOP);
+        this.blackQueens = board.pieces(Color.BLACK, Type.QUEEN);
+        this.blackKings = board.pieces(Color.BLACK, Type.KING);
+        this.key = key;
+    }
+
+    /**
+     * Returns the empty persistent board.
+     *
+     * @return the empty board.
+     */
+    public static PersistentBoard empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a persistent board with the same mappings as the given board. A
+     * persistent board is returned as is.
+     *
+     * @param board the given board.
+     * @return a persistent board equal to the given board.
+     */
+    public static PersistentBoard of(Board board) {
+        return EMPTY.derive(board);
+    }
+
+    /**
+     * Returns a persistent board with the same mappings as the given board. The
+     * changed tiles are found by comparing the masks of both boards, so that
+     * deriving a board that differs in a few tiles updates the key of these
+     * tiles only. A persistent board is returned as is, and this board if the
+     * given board has the same mappings.
+     *
+     * @param board the given board.
+     * @return a persistent board equal to the given board.
+     */
+    public PersistentBoard derive(Board board) {
+        Objects.requireNonNull(board);
+        if (board instanceof PersistentBoard) {
+            return (PersistentBoard) board;
+        }
+        long key = this.key;
+        boolean changed = false;
+        for (int code = 0; code < MASKS; code++) {
+            long squares = mask(code) ^ board.pieces(PIECES[code].color(), PIECES[code].type());
+            changed |= squares != 0L;
+            for (; squares != 0L; squares &= squares - 1) {
+                key ^= Zobrist.piece(code, Long.numberOfTrailingZeros(squares));
+            }
+        }
+        return changed ? new PersistentBoard(board, key) : this;
+    }
+
+    /**
+     * Returns a board on which the given piece is placed on the given tile and
+     * which is equal to this board otherwise.
+     *
+     * @param tile  the tile.
+     * @param piece the piece placed on the tile.
+     * @return the derived board.
+     */
+    public PersistentBoard with(Tile tile, Piece piece) {
+        int code = piece.code();
+        int square = tile.ordinal();
+        long bit = 1L << square;
+        int previous = codeAt(bit);
+        if (previous == code) {
+            return this;
+        }
+        long key = this.key ^ Zobrist.piece(code, square);
+        if (previous < 0) {
+            return new PersistentBoard(this, code, mask(code) | bit, -1, 0L, key);
+        }
+        return new PersistentBoard(this, code, mask(code) | bit, previous, mask(previous) & ~bit,
+                key ^ Zobrist.piece(previous, square));
+    }
+
+    /**
+     * Returns a board on which the given tile is empty and which is equal to this
+     * board otherwise. This board is returned if the tile is empty.
+     *
+     * @param tile the tile.
+     * @return the derived board.
+     */
+    public PersistentBoard without(Tile tile) {
+        int square = tile.ordinal();
+        long bit = 1L << square;
+        int previous = codeAt(bit);
+        if (previous < 0) {
+            return this;
+        }
+        return new PersistentBoard(this, previous, mask(previous) & ~bit, -1, 0L,
+                key ^ Zobrist.piece(previous, square));
+    }
+
+    /**
+     * Returns a board on which the piece on start is moved to end, replacing any
+     * piece on end, and which is equal to this board otherwise.
+     *
+     * @param start the start tile.
+     * @param end   the end tile.
+     * @return the derived board.
+     * @throws IllegalArgumentException if there is no piece on start.
+     */
+    public PersistentBoard move(Tile start, Tile end) {
+        long from = start.mask();
+        long to = end.mask();
+        int code = codeAt(from);
+        if (code < 0) {
+            throw new IllegalArgumentException("There is no piece on " + start + ".");
+        }
+        if (from == to) {
+            return this;
+        }
+        int captured = codeAt(to);
+        long key = this.key ^ Zobrist.piece(code, start.ordinal()) ^ Zobrist.piece(code, end.ordinal());
+        long moved = mask(code) & ~from | to;
+        if (captured < 0 || captured == code) {
+            return new PersistentBoard(this, code, moved, -1, 0L,
+                    captured < 0 ? key : key ^ Zobrist.piece(captured, end.ordinal()));
+        }
+        return new PersistentBoard(this, code, moved, captured, mask(captured) & ~to,
+                key ^ Zobrist.piece(captured, end.ordinal()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Piece get(Object key) {
+        if (key instanceof Tile) {
+            int code = codeAt(((Tile) key).mask());
+            return code < 0 ? null : PIECES[code];
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Tile && (occupied() & ((Tile) key).mask()) != 0L;
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException}, use
+     * {@link #with(Tile, Piece)} instead.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public Piece put(Tile key, Piece value) {
+        throw new UnsupportedOperationException("The board is persistent.");
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException}, use {@link #without(Tile)}
+     * instead.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public Piece remove(Object key) {
+        throw new UnsupportedOperationException("The board is persistent.");
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException}, use {@link #empty()}
+     * instead.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The board is persistent.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return Long.bitCount(occupied());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Entry<Tile, Piece>> entrySet() {
+        return new AbstractSet<Entry<Tile, Piece>>() {
+
+            @Override
+            public Iterator<Entry<Tile, Piece>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PersistentBoard.this.size();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The key is maintained incrementally as boards are derived.
+     */
+    @Override
+    public long zobristKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long occupied() {
+        return occupied(Color.WHITE) | occupied(Color.BLACK);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long occupied(Color color) {
+        if (color == Color.WHITE) {
+            return whitePawns | whiteRooks | whiteKnights | whiteBishops | whiteQueens | whiteKings;
+        }
+        return blackPawns | blackRooks | blackKnights | blackBishops | blackQueens | blackKings;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long pieces(Color color, Type type) {
+        return mask(Piece.code(color, type));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two persistent boards are compared by their Zobrist keys first and then by
+     * their masks.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof PersistentBoard) {
+            PersistentBoard other = (PersistentBoard) o;
+            if (key != other.key) {
+                return false;
+            }
+            for (int code = 0; code < MASKS; code++) {
+                if (mask(code) != other.mask(code)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean isImmutable() {
+        return true;
+    }
+
+    /*
+     * Returns the mask of the pieces with the given code.
+     */
+    private long mask(int code) {
+        switch (code) {
+        case 0:
+            return whitePawns;
+        case 1:
+            return whiteRooks;
+        case 2:
+            return whiteKnights;
+        case 3:
+            return whiteBishops;
+        case 4:
+            return whiteQueens;
+        case 5:
+            return whiteKings;
+        case 6:
+            return blackPawns;
+        case 7:
+            return blackRooks;
+        case 8:
+            return blackKnights;
+        case 9:
+            return blackBishops;
+        case 10:
+            return blackQueens;
+        case 11:
+            return blackKings;
+        default:
+            throw new IndexOutOfBoundsException(code);
+        }
+    }
+
+    /*
+     * Returns the code of the piece on the tile of the bit or -1 if the tile is
+     * empty.
+     */
+    private int codeAt(long bit) {
+        if ((occupied(Color.WHITE) & bit) != 0L) {
+            return typeAt(bit, whitePawns, whiteRooks, whiteKnights, whiteBishops, whiteQueens);
+        }
+        if ((occupied(Color.BLACK) & bit) != 0L) {
+            return Piece.TYPES + typeAt(bit, blackPawns, blackRooks, blackKnights, blackBishops, blackQueens);
+        }
+        return -1;
+    }
+
+    /*
+     * Returns the ordinal of the type of the occupied tile of the bit, which is
+     * the king if none of the given masks contains the bit.
+     */
+    private static int typeAt(long bit, long pawns, long rooks, long knights, long bishops, long queens) {
+        if ((pawns & bit) != 0L) {
+            return Type.PAWN.ordinal();
+        } else if ((rooks & bit) != 0L) {
+            return Type.ROOK.ordinal();
+        } else if ((knights & bit) != 0L) {
+            return Type.KNIGHT.ordinal();
+        } else if ((bishops & bit) != 0L) {
+            return Type.BISHOP.ordinal();
+        } else if ((queens & bit) != 0L) {
+            return Type.QUEEN.ordinal();
+        }
+        return Type.KING.ordinal();
+    }
+
+    /*
+     * Returns the mask of the code of the given board, or of the empty board if
+     * it is null, unless the code is first or second, whose given masks replace
+     * it.
+     */
+    private static long replaced(PersistentBoard board, int code, int first, long firstMask, int second,
+            long secondMask) {
+        if (code == first) {
+            return firstMask;
+        } else if (code == second) {
+            return secondMask;
+        }
+        return board == null ? 0L : board.mask(code);
+    }
+
+    /**
+     * Iterates over all occupied tiles in ordinal order.
+     */
+    private final class EntryIterator implements Iterator<Entry<Tile, Piece>> {
+
+        /**
+         * The occupied squares that have not been returned yet.
+         */
+        private long remaining = occupied();
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0L;
+        }
+
+        @Override
+        public Entry<Tile, Piece> next() {
+            if (remaining == 0L) {
+                throw new NoSuchElementException();
+            }
+            Tile tile = Tile.ofOrdinal(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+            return new SimpleImmutableEntry<>(tile, get(tile));
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package org.chess4j;
 
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static org.chess4j.pieces.Piece.isKing;
 import static org.chess4j.pieces.Piece.isPawn;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import org.chess4j.exceptions.InvalidMoveException;
 import org.chess4j.moves.EnPassante;
 import org.chess4j.moves.Move;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.MoveGenerator;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.MovePicker;
+import org.chess4j.moves.PackedMove;
 import org.chess4j.moves.PawnLeap;
 import org.chess4j.moves.PawnMove;
 import org.chess4j.moves.Rochade;
@@ -35,6 +41,17 @@ public final class Player {
      */
     private Chronicle chronicle;
 
+    /**
+     * The list the legal moves of the player are generated into.
+     */
+    private final MoveList moves = new MoveList();
+
+    /**
+     * The picker that looks for a legal move of the player or {@code null} if
+     * none has been needed yet.
+     */
+    private MovePicker picker;
+
     /*
      * Private Constructor.
      */
@@ -100,8 +117,19 @@ public final class Player {
      * @return {@code true} if the move is valid.
      */
     public boolean isValid(Tile start, Tile end) {
-        Move move = createMove(chronicle, start, end);
-        return nonNull(move) && Piece.isOfColor(color).test(move.moved()) && !inCheck(move.result(), color);
+        if (!Piece.isOfColor(color).test(chronicle.current().get(start))) {
+            return false;
+        }
+        Kind kind = kindOf(chronicle, start, end);
+        if (isNull(kind)) {
+            return false;
+        }
+        // Try the move on the mutable position instead of creating new boards.
+        MutablePosition position = chronicle.position();
+        position.makeMove(start, end, kind);
+        boolean inCheck = position.inCheck(color);
+        position.unmakeMove();
+        return !inCheck;
     }
 
     /**
@@ -144,29 +172,56 @@ public final class Player {
      * @return a valid move or {@code null} if none can be created.
      */
     private static Move createMove(Chronicle chronicle, Tile start, Tile end) {
+        Kind kind = kindOf(chronicle, start, end);
+        if (isNull(kind)) {
+            return null;
+        }
         Board current = chronicle.current();
-        Piece piece = current.get(start);
+        switch (kind) {
+        case SIMPLE:
+            return SimpleMove.perform(start, end, current);
+        case PAWN_MOVE:
+            return PawnMove.perform(start, end, current);
+        case PAWN_LEAP:
+            return PawnLeap.perform(start, end, current);
+        case EN_PASSANTE:
+            return EnPassante.perform(start, end, chronicle);
+        case ROCHADE:
+            return Rochade.perform(start, end, chronicle);
+        default:
+            throw new IllegalStateException();
+        }
+    }
 
-        // First try a simple move.
-        Move move = SimpleMove.perform(start, end, current);
+    /**
+     * Returns the kind of the valid move from start to end or {@code null} if no
+     * move from start to end is valid. The validity checks of the move classes are
+     * used without creating a move.
+     *
+     * @param chronicle the history of the game.
+     * @param start     the start position
+     * @param end       the end position
+     * @return the kind of the valid move or {@code null} if there is none.
+     */
+    private static Kind kindOf(Chronicle chronicle, Tile start, Tile end) {
+        Board current = chronicle.current();
+        Piece piece = current.get(start);
 
         if (isPawn(piece)) {
-            // The move itself is null if the piece is a pawn.
-            move = PawnMove.perform(start, end, current);
-
-            if (isNull(move)) {
-                move = PawnLeap.perform(start, end, current);
+            if (PawnMove.isValidMoveForward(start, end, current) || PawnMove.isValidCapture(start, end, current)) {
+                return Kind.PAWN_MOVE;
             }
-            if (isNull(move)) {
-                // An EnPassante move requires knowelege about the history of the game.
-                move = EnPassante.perform(start, end, chronicle);
+            if (PawnLeap.isValid(start, end, current)) {
+                return Kind.PAWN_LEAP;
             }
+            // An EnPassante move requires knowelege about the history of the game.
+            return EnPassante.isValid(start, end, chronicle) ? Kind.EN_PASSANTE : null;
         }
-        if (isNull(move) && isKing(piece)) {
-            // Try Rochade as last.
-            move = Rochade.perform(start, end, chronicle);
+        if (SimpleMove.isValid(start, end, current)) {
+            return Kind.SIMPLE;
         }
-        return move;
+        // Try Rochade as last.
+        return isKing(piece) && Rochade.isValid(start, end, chronicle) ? Kind.ROCHADE : null;
     }
 
     /**
@@ -190,20 +245,8 @@ public final class Player {
      *         {@code false} otherwise.
      */
     public static boolean inCheck(Board board, Color color) {
-        Board enemyPieces = board.filter(Piece.isOfColor(color.swap()));
-        Board kingMapping = board.filter(Piece.isOfColor(color).and(Piece::isKing));
-        Tile kingPosition = kingMapping.keySet().stream().findFirst().orElse(null);
-
-        if (kingPosition == null) {
-            return false;
-        }
-        for (Tile enemyPosition : enemyPieces.keySet()) {
-            if (SimpleMove.isValid(enemyPosition, kingPosition, board)
-                    || PawnMove.isValidCapture(enemyPosition, kingPosition, board)) {
-                return true;
-            }
-        }
-        return false;
+        Tile kingPosition = board.kingPosition(color);
+        return kingPosition != null && board.isAttacked(kingPosition, color.swap());
     }
 
     /**
@@ -224,29 +267,30 @@ public final class Player {
      *         otherwise.
      */
     private boolean isMate() {
-        Board pieces = chronicle.current().filter(Piece.isOfColor(color));
-        for (Tile piecePosition : pieces.keySet()) {
-            if (canMove(piecePosition)) {
-                return false;
-            }
+        // One legal move disproves mate, so the quiet moves are rarely generated.
+        if (picker == null) {
+            picker = new MovePicker(chronicle.position(), color);
+        } else {
+            picker.reset(chronicle.position(), PackedMove.NONE);
         }
-        return true;
+        return picker.next() == PackedMove.NONE;
     }
 
     /**
-     * Returns a {@code true} if any given piece on the start coordinate can make at
-     * least one valid move.
+     * Returns all tiles the piece on the start tile can be moved to. The set is
+     * empty if there is no piece of the player's color on the start tile.
      *
      * @param start the given start tile.
-     * @return {@code true} if any valid move from start is possible.
+     * @return the end tiles of all valid moves from start.
      */
-    private boolean canMove(Tile start) {
-        for (Tile tile : Tile.values()) {
-            if (isValid(start, tile)) {
-                return true;
-            }
+    public Set<Tile> reachableTiles(Tile start) {
+        Set<Tile> reachableTiles = EnumSet.noneOf(Tile.class);
+        moves.clear();
+        MoveGenerator.legalMoves(chronicle.position(), color, start.mask(), moves);
+        for (int i = 0; i < moves.size(); i++) {
+            reachableTiles.add(PackedMove.end(moves.get(i)));
         }
-        return false;
+        return reachableTiles;
     }
 
     /**
@@ -1,16 +1,15 @@
 package org.chess4j;
 
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 
 import org.chess4j.Player.Color;
 import org.chess4j.exceptions.InvalidMoveException;
 import org.chess4j.exceptions.PawnNotPromotedException;
 import org.chess4j.moves.Move;
-import org.chess4j.pieces.Pawn;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.PawnMove;
 import org.chess4j.pieces.Piece;
 import org.chess4j.pieces.Piece.Type;
 
@@ -37,6 +36,9 @@ public final class SimpleGame implements Game {
     // The current end tile in focus.
     private Tile end;
 
+    // The status of the current position or null if it has not been computed yet.
+    private Status status;
+
     /**
      * Constructs a new Simple game.
      */
@@ -125,6 +127,7 @@ public final class SimpleGame implements Game {
         Player player = currentPlayer();
         player.move(start, end);
         playersTurn = playersTurn.swap();
+        status = null;
         reset();
     }
 
@@ -133,15 +136,14 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean canBePromoted() {
-        for (Tile tile : Tile.values()) {
-            if (tile.row() == 8 || tile.row() == 1) {
-                Piece piece = position().get(tile);
-                if (Piece.isPawn(piece)) {
-                    return true;
-                }
-            }
+        // Only the last move can have brought a pawn to the last row, as every
+        // promotion replaces the pawn before the next move is made.
+        if (chronicle.isEmpty()) {
+            return false;
         }
-        return false;
+        Move last = chronicle.get(chronicle.size() - 1);
+        return last.kind() == Kind.PAWN_MOVE && Piece.isPawn(chronicle.current().get(last.end()))
+                && (last.end().row() == 8 || last.end().row() == 1);
     }
 
     /**
@@ -149,15 +151,18 @@ public final class SimpleGame implements Game {
      */
     @Override
     public void promote(Type type) {
-        for (Tile tile : Tile.values()) {
-            if (tile.row() == 8 || tile.row() == 1) {
-                Piece piece = position().get(tile);
-                if (Piece.isPawn(piece)) {
-                    Pawn pawn = (Pawn) piece;
-                    pawn.promote(type);
-                }
-            }
+        Objects.requireNonNull(type);
+        if (!canBePromoted()) {
+            return;
+        }
+        if (type == Type.PAWN || type == Type.KING) {
+            throw new IllegalArgumentException("Cannot promote the pawn to the given type " + type);
         }
+        // The last move is replaced by the same pawn move with the promotion, which
+        // puts a new piece on the board instead of changing the pawn.
+        Move last = chronicle.revert();
+        chronicle.add(PawnMove.perform(last.start(), last.end(), chronicle.current(), type));
+        status = null;
     }
 
     /**
@@ -168,13 +173,43 @@ public final class SimpleGame implements Game {
         if (start == null) {
             return Collections.emptySet();
         }
-        Set<Tile> reachableTiles = EnumSet.noneOf(Tile.class);
-        for (Tile tile : Tile.values()) {
-            if (currentPlayer().isValid(start, tile)) {
-                reachableTiles.add(tile);
-            }
+        return Collections.unmodifiableSet(currentPlayer().reachableTiles(start));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The status is computed once for every position and served from a cache
+     * until the next move or promotion, so that all predicates of the status are
+     * answered in constant time. Only the player whose turn it is can be
+     * checkmated or stalemated, so the legal moves of the other player are not
+     * looked at.
+     */
+    @Override
+    public Status status() {
+        if (status == null) {
+            status = computeStatus();
+        }
+        return status;
+    }
+
+    /*
+     * Computes the status of the current position.
+     */
+    private Status computeStatus() {
+        Player player = currentPlayer();
+        if (player.isCheckmate()) {
+            return playersTurn == Color.WHITE ? Status.BLACK_WON : Status.WHITE_WON;
+        } else if (player.isStalemate()) {
+            return Status.STALEMATE;
+        } else if (threefoldRepetition()) {
+            return Status.THREEFOLD_REPETITION;
+        } else if (chronicle.halfmoveClock() >= 100) {
+            return Status.FIFTY_MOVE_RULE;
+        } else if (insufficientMaterial()) {
+            return Status.INSUFFICIENT_MATERIAL;
         }
-        return Collections.unmodifiableSet(reachableTiles);
+        return Status.ONGOING;
     }
 
     /**
@@ -182,7 +217,7 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean hasWhitePlayerWon() {
-        return black.isCheckmate();
+        return status() == Status.WHITE_WON;
     }
 
     /**
@@ -190,7 +225,7 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean hasBlackPlayerWon() {
-        return white.isCheckmate();
+        return status() == Status.BLACK_WON;
     }
 
     /**
@@ -198,7 +233,7 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean isStalemate() {
-        return white.isStalemate() || black.isStalemate();
+        return status() == Status.STALEMATE;
     }
 
     /**
@@ -206,14 +241,7 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean isThreefoldRepetition() {
-        if (chronicle.size() < 8) {
-            return false;
-        } else {
-            Board current = chronicle.current();
-            Board before = chronicle.get(chronicle.size() - 4).initial();
-            Board beforeBefore = chronicle.get(chronicle.size() - 8).initial();
-            return current.equals(before) && before.equals(beforeBefore);
-        }
+        return status() == Status.THREEFOLD_REPETITION;
     }
 
     /**
@@ -221,19 +249,7 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean isFiftyMoveRule() {
-        if (chronicle.size() < 100) {
-            return false;
-        }
-        for (int i = 0; i < 100; i++) {
-            Move move = chronicle.get(chronicle.size() - (i + 1));
-            if (move.captured().isPresent()) {
-                return false;
-            }
-            if (move.moved().type() == Type.PAWN) {
-                return false;
-            }
-        }
-        return true;
+        return status() == Status.FIFTY_MOVE_RULE;
     }
 
     /**
@@ -241,6 +257,20 @@ public final class SimpleGame implements Game {
      */
     @Override
     public boolean isDrawByInsufficientMaterial() {
+        return status() == Status.INSUFFICIENT_MATERIAL;
+    }
+
+    /*
+     * Returns true if the current position occurred twice before.
+     */
+    private boolean threefoldRepetition() {
+        return chronicle.repetitions() >= 3;
+    }
+
+    /*
+     * Returns true if neither player has enough pieces left to checkmate.
+     */
+    private boolean insufficientMaterial() {
         // More tan four pieces on the board are sufficient for a checkmate.
         Board board = position();
         if (board.size() > 4) {
@@ -248,18 +278,20 @@ public final class SimpleGame implements Game {
         }
         // Any heavy piece is sufficient with a king for checkmate. Any pawn could be
         // promoted to a heavy piece.
-        if (board.anyMatch(p -> Piece.isQueen(p) || Piece.isRook(p) || Piece.isPawn(p))) {
-            return false;
+        for (Color color : Color.values()) {
+            if (board.count(color, Type.QUEEN) + board.count(color, Type.ROOK) + board.count(color, Type.PAWN) > 0) {
+                return false;
+            }
         }
         if (board.size() == 4) {
             // Only two bishobs remain on the board.
-            Optional<Tile> whiteBishopPos = board.filter(Piece.isOfColor(Color.WHITE).and(Piece::isBishop)).keySet()
-                    .stream().findFirst();
-            Optional<Tile> blackBishopPos = board.filter(Piece.isOfColor(Color.BLACK).and(Piece::isBishop)).keySet()
-                    .stream().findFirst();
-            if (whiteBishopPos.isPresent() && blackBishopPos.isPresent()) {
+            long whiteBishops = board.pieces(Color.WHITE, Type.BISHOP);
+            long blackBishops = board.pieces(Color.BLACK, Type.BISHOP);
+            if (whiteBishops != 0L && blackBishops != 0L) {
                 // It is a draw is only two bishobs remain which are placed on the same color.
-                return whiteBishopPos.get().parity() == blackBishopPos.get().parity();
+                Tile whiteBishopPos = Tile.ofOrdinal(Long.numberOfTrailingZeros(whiteBishops));
+                Tile blackBishopPos = Tile.ofOrdinal(Long.numberOfTrailingZeros(blackBishops));
+                return whiteBishopPos.parity() == blackBishopPos.parity();
             } else {
                 return false;
             }
@@ -273,6 +305,14 @@ public final class SimpleGame implements Game {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int halfmoveClock() {
+        return chronicle.halfmoveClock();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,7 +1,9 @@
 package org.chess4j;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -43,6 +45,12 @@ public enum Tile {
      */
     private final int row;
 
+    /**
+     * All tiles in ordinal order. The tile with column {@code c} and row
+     * {@code r} is found at index {@code (8 - r) * 8 + c - 1}.
+     */
+    private static final Tile[] TILES = values();
+
     /**
      * Private constructor
      *
@@ -64,8 +72,33 @@ public enum Tile {
      *                                exists.
      */
     public static Tile valueOf(int column, int row) {
-        String tileName = String.valueOf((char) (96 + column)) + row;
-        return Tile.valueOf(tileName);
+        if (column < 1 || column > 8 || row < 1 || row > 8) {
+            throw new NoSuchElementException(String.format("No tile with column %d and row %d.", column, row));
+        }
+        return TILES[(8 - row) * 8 + column - 1];
+    }
+
+    /**
+     * Static factory returns the tile with the given ordinal.
+     *
+     * @param ordinal the ordinal of the tile.
+     * @return the tile with the given ordinal.
+     * @throws ArrayIndexOutOfBoundsException if the ordinal is not between 0 and
+     *                                        63.
+     */
+    public static Tile ofOrdinal(int ordinal) {
+        return TILES[ordinal];
+    }
+
+    /**
+     * Returns the mask of this tile in a bitboard, which is the bit with the index
+     * of the ordinal of the tile.
+     *
+     * @return the bitboard mask of the tile.
+     * @see Bitboards
+     */
+    public long mask() {
+        return 1L << ordinal();
     }
 
     /**
@@ -100,26 +133,53 @@ public enum Tile {
      * Returns a set of all coordinates that lie between the start and end position
      * under the condition that both form a straight or diagonal line otherwise an
      * empty set is returned. Start and end coordinates are from the set excluded.
+     * The returned set is unmodifiable and shared between calls.
      *
      * @param start the start coordinate.
      * @param end   the end coordinate.
      * @return all the coordinates in between start and end.
      */
     public static Set<Tile> path(Tile start, Tile end) {
-        int deltaColumn = end.column() - start.column();
-        int deltaRow = end.row() - start.row();
-        boolean isLine = Math.abs(deltaColumn) == Math.abs(deltaRow) || deltaColumn == 0 || deltaRow == 0;
-        if (isLine) {
-            int length = Math.max(Math.abs(deltaColumn), Math.abs(deltaRow));
-            int dirColumn = Integer.signum(deltaColumn);
-            int dirRow = Integer.signum(deltaRow);
-            Set<Tile> path = EnumSet.noneOf(Tile.class);
-            for (int i = 1; i < length; i++) {
-                path.add(Tile.valueOf(start.column() + i * dirColumn, start.row() + i * dirRow));
+        return Paths.PATHS.get(start.ordinal()).get(end.ordinal());
+    }
+
+    /**
+     * Holds the paths between all pairs of tiles, which are computed when
+     * {@link Tile#path(Tile, Tile)} is first called.
+     */
+    private static final class Paths {
+
+        /**
+         * The unmodifiable paths indexed by the ordinals of start and end tile.
+         */
+        private static final List<List<Set<Tile>>> PATHS = paths();
+
+        // Private constructor
+        private Paths() {
+        }
+
+        /*
+         * Computes the paths from the masks of tiles in between.
+         */
+        private static List<List<Set<Tile>>> paths() {
+            List<List<Set<Tile>>> paths = new ArrayList<>(TILES.length);
+            for (int start = 0; start < TILES.length; start++) {
+                List<Set<Tile>> row = new ArrayList<>(TILES.length);
+                for (int end = 0; end < TILES.length; end++) {
+                    long mask = Bitboards.between(start, end);
+                    if (mask == 0L) {
+                        row.add(Collections.emptySet());
+                    } else {
+                        Set<Tile> path = EnumSet.noneOf(Tile.class);
+                        for (; mask != 0L; mask &= mask - 1) {
+                            path.add(TILES[Long.numberOfTrailingZeros(mask)]);
+                        }
+                        row.add(Collections.unmodifiableSet(path));
+                    }
+                }
+                paths.add(row);
             }
-            return path;
-        } else {
-            return Collections.emptySet();
+            return paths;
         }
     }
 }
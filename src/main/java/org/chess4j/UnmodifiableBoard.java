@@ -0,0 +1,113 @@
+package org.chess4j;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.chess4j.Player.Color;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * An unmodifiable view of a board. All read operations are forwarded directly
+ * to the backing board, so that the view shares its storage and modifications
+ * of the backing board are reflected on the view.
+ */
+final class UnmodifiableBoard extends AbstractBoard {
+
+    /**
+     * The backing board.
+     */
+    private final Board board;
+
+    // Private constructor
+    private UnmodifiableBoard(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Returns an unmodifiable Board that is backed the given board. If the given
+     * board is already unmodifiable it is returned as is.
+     *
+     * @param board the given board.
+     * @return an unmodifiable board.
+     */
+    static Board of(Board board) {
+        Objects.requireNonNull(board);
+        if (board instanceof UnmodifiableBoard || board instanceof FilteredBoard
+                || (board instanceof AbstractBoard && ((AbstractBoard) board).isImmutable())) {
+            return board;
+        }
+        return new UnmodifiableBoard(board);
+    }
+
+    @Override
+    public Piece get(Object key) {
+        return board.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return board.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return board.size();
+    }
+
+    @Override
+    public long occupied() {
+        return board.occupied();
+    }
+
+    @Override
+    public long occupied(Color color) {
+        return board.occupied(color);
+    }
+
+    @Override
+    public long pieces(Color color, Type type) {
+        return board.pieces(color, type);
+    }
+
+    @Override
+    public long zobristKey() {
+        return board.zobristKey();
+    }
+
+    @Override
+    public Piece remove(Object key) {
+        throw new UnsupportedOperationException("The board is unmodifiable.");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The board is unmodifiable.");
+    }
+
+    @Override
+    public Board filter(Predicate<Piece> predicate) {
+        return board.filter(predicate);
+    }
+
+    @Override
+    public Set<Entry<Tile, Piece>> entrySet() {
+        return Collections.unmodifiableSet(board.entrySet());
+    }
+
+    /**
+     * Returns the board that backs this view.
+     *
+     * @return the backing board.
+     */
+    Board backing() {
+        return board;
+    }
+
+    @Override
+    boolean isImmutable() {
+        return board instanceof AbstractBoard && ((AbstractBoard) board).isImmutable();
+    }
+}
@@ -0,0 +1,464 @@
+package org.chess4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.chess4j.Player.Color;
+import org.chess4j.exceptions.InvalidMoveException;
+import org.chess4j.moves.EncodedMove;
+import org.chess4j.moves.Move;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.MoveGenerator;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.PackedMove;
+import org.chess4j.moves.Rochade;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * A variation tree holds a game together with its alternative lines. Every
+ * {@link Node} stands for the position after a move and holds the moves played
+ * from there as its variations, the first of which continues the main line.
+ * Variations branch from any position and share all moves before the branch,
+ * so that a side line costs one node per move of its own instead of a copy of
+ * the whole game. A node keeps its move as a packed move, see
+ * {@link PackedMove}, its position as a {@link PersistentBoard} and the side to
+ * move, the castling rights and the en-passant target in one packed state, so
+ * that a move is played from a node without looking at the line before it.
+ * <p>
+ * Lines are extended by {@link Node#play(Tile, Tile)} or
+ * {@link Node#add(Move)}, made the main line by {@link Node#promote()} and cut
+ * off by {@link Node#prune()}. The moves of a line form a {@link Chronicle}
+ * on demand, see {@link Node#chronicle()}. A variation tree is not thread-safe.
+ */
+public final class VariationTree {
+
+    /**
+     * The number of bits of the castling rights in a state.
+     */
+    private static final int CASTLING_BITS = 4;
+
+    /**
+     * The mask of the castling rights in a state.
+     */
+    private static final int CASTLING_MASK = (1 << CASTLING_BITS) - 1;
+
+    /**
+     * The mask of the en-passant target in a state after shifting it down.
+     */
+    private static final int EN_PASSANT_MASK = 0x7F;
+
+    /**
+     * The bit of a state that is set if black is to move.
+     */
+    private static final int BLACK_TO_MOVE = 1 << 11;
+
+    /**
+     * The node of the initial position.
+     */
+    private final Node root;
+
+    /**
+     * Constructs a tree with the given initial position and no moves. White is to
+     * move in the initial position.
+     *
+     * @param initial the initial position of the board.
+     */
+    public VariationTree(Board initial) {
+        PersistentBoard position = PersistentBoard.of(Objects.requireNonNull(initial));
+        this.root = new Node(null, PackedMove.NONE, position, Rochade.initialRights(position));
+    }
+
+    /**
+     * Returns the node of the initial position.
+     *
+     * @return the root node.
+     */
+    public Node root() {
+        return root;
+    }
+
+    /**
+     * Returns the moves of the main line, which follows the first variation of
+     * every node from the root.
+     *
+     * @return the moves of the main line.
+     */
+    public List<Move> mainLine() {
+        Node node = root;
+        while (node.children != null && !node.children.isEmpty()) {
+            node = node.children.get(0);
+        }
+        return node.line();
+    }
+
+    /**
+     * A node of a variation tree, which stands for the position after a move.
+     */
+    public static final class Node {
+
+        /**
+         * The previous node or {@code null} for the root and a pruned node.
+         */
+        private Node parent;
+
+        /**
+         * The packed move that leads to this node or {@link PackedMove#NONE} for
+         * the root.
+         */
+        private final int move;
+
+        /**
+         * The position of this node.
+         */
+        private final PersistentBoard position;
+
+        /**
+         * The castling rights in the lowest four bits, the ordinal of the
+         * en-passant target tile plus one, or zero if there is none, in the next
+         * seven bits and {@link VariationTree#BLACK_TO_MOVE} if black is to move.
+         */
+        private final int state;
+
+        /**
+         * The following nodes with the main line first or {@code null} if there
+         * are none yet.
+         */
+        private List<Node> children;
+
+        // Private constructor
+        private Node(Node parent, int move, PersistentBoard position, int state) {
+            this.parent = parent;
+            this.move = move;
+            this.position = position;
+            this.state = state;
+        }
+
+        /**
+         * Returns the move that leads to this node or {@code null} for the root.
+         * The move is a view of the packed move between the positions of the
+         * parent and this node, which is created on every call.
+         *
+         * @return the move of this node.
+         */
+        public Move move() {
+            if (move == PackedMove.NONE) {
+                return null;
+            }
+            return EncodedMove.of(move, parent.position, position);
+        }
+
+        /**
+         * Returns the position after the move of this node.
+         *
+         * @return the position of this node.
+         */
+        public Board position() {
+            return position;
+        }
+
+        /**
+         * Returns the color of the player whose turn it is in the position of this
+         * node.
+         *
+         * @return the side to move.
+         */
+        public Color sideToMove() {
+            return (state & BLACK_TO_MOVE) == 0 ? Color.WHITE : Color.BLACK;
+        }
+
+        /**
+         * Returns the previous node or {@code null} if this is the root or has been
+         * pruned.
+         *
+         * @return the parent node.
+         */
+        public Node parent() {
+            return parent;
+        }
+
+        /**
+         * Returns the nodes of the moves played from this position, the
+         * continuation of the main line first.
+         *
+         * @return an unmodifiable view of the variations.
+         */
+        public List<Node> variations() {
+            return children == null ? Collections.emptyList() : Collections.unmodifiableList(children);
+        }
+
+        /**
+         * Returns the first variation, which continues the line of this node, or
+         * {@code null} if no move has been played from this position.
+         *
+         * @return the next node of the line.
+         */
+        public Node next() {
+            return children == null || children.isEmpty() ? null : children.get(0);
+        }
+
+        /**
+         * Returns the number of moves from the root to this node.
+         *
+         * @return the ply of this node.
+         */
+        public int ply() {
+            int ply = 0;
+            for (Node node = parent; node != null; node = node.parent) {
+                ply++;
+            }
+            return ply;
+        }
+
+        /**
+         * Returns {@code true} if this node lies on the main line, that is if it is
+         * the first variation of every node before it.
+         *
+         * @return {@code true} if this node is on the main line.
+         */
+        public boolean isMainLine() {
+            for (Node node = this; node.parent != null; node = node.parent) {
+                if (node.parent.children.get(0) != node) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the moves from the root to this node.
+         *
+         * @return the moves of the line of this node.
+         */
+        public List<Move> line() {
+            List<Move> line = new ArrayList<>(ply());
+            for (Node node = this; node.parent != null; node = node.parent) {
+                line.add(node.move());
+            }
+            Collections.reverse(line);
+            return line;
+        }
+
+        /**
+         * Returns a new chronicle of the moves from the root to this node, which
+         * knows the castling rights, the en-passant target and the repetitions of
+         * the line. Changes of the chronicle are not reflected in the tree.
+         *
+         * @return the chronicle of the line of this node.
+         * @throws IllegalStateException if this node has been pruned.
+         */
+        public Chronicle chronicle() {
+            Chronicle chronicle = new Chronicle(root().position);
+            chronicle.addAll(line());
+            return chronicle;
+        }
+
+        /**
+         * Adds the given move as a variation of this node and returns its node. If
+         * the move has already been played from this position the existing node is
+         * returned instead. A new variation is added after the existing ones, so
+         * that the main line is kept.
+         *
+         * @param move the move played from the position of this node.
+         * @return the node of the move.
+         * @throws IllegalArgumentException if the initial position of the move does
+         *                                  not match the position of this node, if
+         *                                  the moved piece is not of the side to
+         *                                  move or if the move is not legal with
+         *                                  the castling rights and the en-passant
+         *                                  target of this node.
+         */
+        public Node add(Move move) {
+            Objects.requireNonNull(move);
+            if (!position.equals(move.initial())) {
+                throw new IllegalArgumentException(
+                        "The initial board position of the move does not match the position of the node.");
+            }
+            if (move.moved().color() != sideToMove()) {
+                throw new IllegalArgumentException("The moved piece is not of the side to move.");
+            }
+            int packed = PackedMove.of(move);
+            MoveList moves = legalMoves(move.start());
+            for (int i = 0; i < moves.size(); i++) {
+                if (moves.get(i) == packed) {
+                    return add(packed);
+                }
+            }
+            throw new IllegalArgumentException("The move is invalid in the position of the node.");
+        }
+
+        /**
+         * Plays the move from start to end in the position of this node and
+         * returns the node of the move, see {@link #add(Move)}. The move is
+         * validated for the player whose turn it is in the position of this node
+         * together with its castling rights and en-passant target. A pawn that
+         * reaches the last row must be promoted by {@link #play(Tile, Tile, Type)}.
+         *
+         * @param start the start tile of the move.
+         * @param end   the end tile of the move.
+         * @return the node of the move.
+         * @throws InvalidMoveException if the move is invalid or a promotion.
+         */
+        public Node play(Tile start, Tile end) throws InvalidMoveException {
+            return play(start, end, null);
+        }
+
+        /**
+         * Plays the move from start to end in the position of this node, which
+         * promotes the moved pawn to the given type, and returns the node of the
+         * move, see {@link #play(Tile, Tile)}.
+         *
+         * @param start     the start tile of the move.
+         * @param end       the end tile of the move.
+         * @param promotion the type the pawn is promoted to or {@code null} if the
+         *                  move is no promotion.
+         * @return the node of the move.
+         * @throws InvalidMoveException if the move is invalid or if the promotion
+         *                              does not match the move.
+         */
+        public Node play(Tile start, Tile end, Type promotion) throws InvalidMoveException {
+            Piece piece = position.get(start);
+            if (piece == null) {
+                throw new InvalidMoveException("There is no piece on start.");
+            }
+            if (piece.color() != sideToMove()) {
+                throw new InvalidMoveException("The player cannot move a piece of the opposite color.");
+            }
+            MoveList moves = legalMoves(start);
+            boolean reachable = false;
+            for (int i = 0; i < moves.size(); i++) {
+                int legal = moves.get(i);
+                if (PackedMove.to(legal) == end.ordinal()) {
+                    if (PackedMove.promotion(legal) == promotion) {
+                        return add(legal);
+                    }
+                    reachable = true;
+                }
+            }
+            if (reachable) {
+                throw new InvalidMoveException(promotion == null ? "The pawn must be promoted."
+                        : "The move cannot promote to " + promotion + ".");
+            }
+            throw new InvalidMoveException("The move is invalid for the given piece.");
+        }
+
+        /**
+         * Makes the line of this node the main line by moving this node and every
+         * node before it to the front of the variations of its parent. The order
+         * of the other variations is kept.
+         *
+         * @throws IllegalStateException if this node has been pruned.
+         */
+        public void promote() {
+            root();
+            for (Node node = this; node.parent != null; node = node.parent) {
+                List<Node> siblings = node.parent.children;
+                siblings.remove(node);
+                siblings.add(0, node);
+            }
+        }
+
+        /**
+         * Removes this node together with all its variations from the tree. The
+         * next variation of the parent takes the place of a pruned main line.
+         *
+         * @throws IllegalStateException if this node is the root or has already
+         *                               been pruned.
+         */
+        public void prune() {
+            if (move == PackedMove.NONE) {
+                throw new IllegalStateException("The root cannot be pruned.");
+            }
+            if (parent == null) {
+                throw new IllegalStateException("The node has already been pruned.");
+            }
+            parent.children.remove(this);
+            parent = null;
+        }
+
+        /*
+         * Returns the en-passant target of the position of this node or null.
+         */
+        private Tile enPassant() {
+            int ordinal = (state >>> CASTLING_BITS) & EN_PASSANT_MASK;
+            return ordinal == 0 ? null : Tile.ofOrdinal(ordinal - 1);
+        }
+
+        /*
+         * Returns the root of the tree of this node and throws an
+         * IllegalStateException if this node or a node before it has been pruned.
+         */
+        private Node root() {
+            Node node = this;
+            while (node.parent != null) {
+                node = node.parent;
+            }
+            if (node.move != PackedMove.NONE) {
+                throw new IllegalStateException("The node has been pruned.");
+            }
+            return node;
+        }
+
+        /*
+         * Returns the legal moves from the start tile with the state of this node.
+         */
+        private MoveList legalMoves(Tile start) {
+            MutablePosition current = new MutablePosition(position, sideToMove(), state & CASTLING_MASK,
+                    enPassant());
+            MoveList moves = new MoveList();
+            MoveGenerator.legalMoves(current, sideToMove(), start.mask(), moves);
+            return moves;
+        }
+
+        /*
+         * Returns the node of the legal packed move, which is added as the last
+         * variation unless it has already been played.
+         */
+        private Node add(int move) {
+            Color color = sideToMove();
+            if (children == null) {
+                children = new ArrayList<>(1);
+            }
+            for (Node child : children) {
+                if (child.move == move) {
+                    return child;
+                }
+            }
+            Tile start = PackedMove.start(move);
+            Tile end = PackedMove.end(move);
+            Kind kind = PackedMove.kind(move);
+            int next = Rochade.remainingRights(state & CASTLING_MASK, start, end);
+            if (kind == Kind.PAWN_LEAP) {
+                next |= (Tile.valueOf(start.column(), (start.row() + end.row()) / 2).ordinal() + 1) << CASTLING_BITS;
+            }
+            if (color == Color.WHITE) {
+                next |= BLACK_TO_MOVE;
+            }
+            Node child = new Node(this, move, result(position, move, color), next);
+            children.add(child);
+            return child;
+        }
+
+        /*
+         * Returns the board after the packed move of the given color.
+         */
+        private static PersistentBoard result(PersistentBoard board, int move, Color color) {
+            Tile start = PackedMove.start(move);
+            Tile end = PackedMove.end(move);
+            switch (PackedMove.kind(move)) {
+            case EN_PASSANTE:
+                return board.without(Tile.valueOf(end.column(), start.row())).move(start, end);
+            case ROCHADE:
+                Tile rook = Tile.valueOf(end.column() > start.column() ? 8 : 1, start.row());
+                Tile between = Tile.valueOf((start.column() + end.column()) / 2, start.row());
+                return board.move(rook, between).move(start, end);
+            default:
+                Type promotion = PackedMove.promotion(move);
+                PersistentBoard result = board.move(start, end);
+                return promotion == null ? result : result.with(end, Piece.of(color, promotion));
+            }
+        }
+    }
+}
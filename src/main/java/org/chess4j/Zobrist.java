@@ -0,0 +1,162 @@
+package org.chess4j;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import org.chess4j.Player.Color;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * Zobrist hashing assigns a random 64-bit key to every piece on every tile, to
+ * the side to move, to every combination of castling rights and to every
+ * en-passant column. The key of a position is the exclusive or of the keys of
+ * all its features, so that a move can update the key incrementally by
+ * toggling the keys of the features it changes. The keys are derived from a
+ * fixed seed and are therefore identical across runs.
+ */
+public final class Zobrist {
+
+    /*
+     * The seed of the random keys.
+     */
+    private static final long SEED = 0x5A0B_7157_C4E5_5A4FL;
+
+    /*
+     * The number of piece types.
+     */
+    private static final int TYPES = Type.values().length;
+
+    /**
+     * The keys for each piece color and type on each tile.
+     */
+    private static final long[][] PIECES = new long[TYPES * Color.values().length][Tile.values().length];
+
+    /**
+     * The key that is toggled if black is to move.
+     */
+    private static final long BLACK_TO_MOVE;
+
+    /**
+     * The keys for each combination of castling rights.
+     */
+    private static final long[] CASTLING = new long[16];
+
+    /**
+     * The keys for each column of an en-passant target tile.
+     */
+    private static final long[] EN_PASSANT = new long[8];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] keys : PIECES) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+        BLACK_TO_MOVE = random.nextLong();
+        for (int i = 1; i < CASTLING.length; i++) {
+            CASTLING[i] = random.nextLong();
+        }
+        for (int i = 0; i < EN_PASSANT.length; i++) {
+            EN_PASSANT[i] = random.nextLong();
+        }
+    }
+
+    // Private constructor
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of the given piece placed on the given tile.
+     *
+     * @param piece the given piece.
+     * @param tile  the tile the piece is placed on.
+     * @return the key of the piece on the tile.
+     */
+    public static long piece(Piece piece, Tile tile) {
+        return piece(piece.code(), tile.ordinal());
+    }
+
+    /**
+     * Returns the key for the piece with the given code placed on the square with
+     * the given tile ordinal.
+     *
+     * @param index  the code of the piece, see {@link Piece#code()}.
+     * @param square the tile ordinal.
+     * @return the key of the piece on the square.
+     */
+    static long piece(int index, int square) {
+        return PIECES[index][square];
+    }
+
+    /**
+     * Returns the key for the given side to move.
+     *
+     * @param color the color of the player whose turn it is.
+     * @return the key of the side to move.
+     */
+    public static long side(Color color) {
+        return color == Color.BLACK ? BLACK_TO_MOVE : 0L;
+    }
+
+    /**
+     * Returns the key for the given castling rights.
+     *
+     * @param rights the castling rights as a combination of the flags declared in
+     *               {@link org.chess4j.moves.Rochade}.
+     * @return the key of the castling rights.
+     */
+    public static long castling(int rights) {
+        return CASTLING[rights & 0xF];
+    }
+
+    /**
+     * Returns the key for the given en-passant target tile or zero if there is
+     * none.
+     *
+     * @param tile the en-passant target tile or {@code null}.
+     * @return the key of the en-passant column.
+     */
+    public static long enPassant(Tile tile) {
+        return tile == null ? 0L : EN_PASSANT[tile.column() - 1];
+    }
+
+    /**
+     * Returns the key of a complete position. The en-passant target tile only
+     * contributes to the key if a pawn of the side to move stands next to the
+     * leaped pawn, as otherwise the position cannot be told apart from the same
+     * placement without an en-passant target.
+     *
+     * @param board          the placement of the pieces.
+     * @param sideToMove     the color of the player whose turn it is.
+     * @param castlingRights the castling rights.
+     * @param enPassant      the en-passant target tile or {@code null}.
+     * @return the key of the position.
+     */
+    public static long key(Board board, Color sideToMove, int castlingRights, Tile enPassant) {
+        Objects.requireNonNull(sideToMove);
+        long key = board.zobristKey() ^ side(sideToMove) ^ castling(castlingRights);
+        if (enPassant != null && canCaptureEnPassant(board, sideToMove, enPassant)) {
+            key ^= enPassant(enPassant);
+        }
+        return key;
+    }
+
+    /*
+     * Returns true if a pawn of the given color stands next to the pawn that
+     * leaped over the en-passant target tile.
+     */
+    private static boolean canCaptureEnPassant(Board board, Color color, Tile enPassant) {
+        int row = enPassant.row() + (color == Color.WHITE ? -1 : 1);
+        for (int column = enPassant.column() - 1; column <= enPassant.column() + 1; column += 2) {
+            if (column >= 1 && column <= 8) {
+                Piece piece = board.get(Tile.valueOf(column, row));
+                if (Piece.isPawn(piece) && piece.color() == color) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
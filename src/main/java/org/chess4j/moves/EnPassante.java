@@ -3,11 +3,11 @@ package org.chess4j.moves;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.chess4j.Bitboards;
 import org.chess4j.Board;
 import org.chess4j.Chronicle;
-import org.chess4j.EnumMapBoard;
+import org.chess4j.PersistentBoard;
 import org.chess4j.Tile;
-import org.chess4j.Player.Color;
 import org.chess4j.pieces.Piece;
 
 /**
@@ -49,12 +49,11 @@ public final class EnPassante implements Move {
     private EnPassante(Tile start, Tile end, Chronicle chronical) {
         this.start = Objects.requireNonNull(start);
         this.end = Objects.requireNonNull(end);
-        Board initial = chronical.current();
-        this.initial = Objects.requireNonNull(new EnumMapBoard(initial));
-        Board board = setUpBoard(chronical.get(chronical.size() - 1));
-        this.captured = Optional.of(board.get(end));
-        board.put(end, board.remove(start));
-        this.result = Objects.requireNonNull(board);
+        PersistentBoard initial = PersistentBoard.of(chronical.current());
+        this.initial = initial;
+        Tile capturedPosition = capturedPosition(start, end);
+        this.captured = Optional.of(initial.get(capturedPosition));
+        this.result = initial.without(capturedPosition).move(start, end);
     }
 
     /**
@@ -72,7 +71,10 @@ public final class EnPassante implements Move {
 
     /**
      * Checks if the EnPassante move with the given position is valid. A EnPassante
-     * can only occur directly after a PawnLeap of an enemy piece. If th
+     * can only occur directly after a PawnLeap of an enemy piece, which makes the
+     * leaped tile the en-passant target of the chronicle. The move must end on
+     * that tile and start on a pawn that attacks it, while the leaped enemy pawn
+     * stands next to the start tile.
      *
      * @param chronicle the current gaming position.
      * @param start     the start coordinate.
@@ -80,25 +82,24 @@ public final class EnPassante implements Move {
      * @return {@code true} if the move is valid.
      */
     public static boolean isValid(Tile start, Tile end, Chronicle chronicle) {
-        if (chronicle.isEmpty()) {
+        if (end != chronicle.enPassant()) {
             return false;
         }
-        Move lastMove = chronicle.get(chronicle.size() - 1);
-        if (lastMove instanceof PawnLeap) {
-            Board board = setUpBoard(lastMove);
-            return PawnMove.isValidCapture(start, end, board);
+        Board board = chronicle.current();
+        Piece pawn = board.get(start);
+        if (!Piece.isPawn(pawn) || (Bitboards.pawnAttacks(pawn.color(), start) & end.mask()) == 0L) {
+            return false;
         }
-        return false;
+        Piece leaped = board.get(capturedPosition(start, end));
+        return Piece.isPawn(leaped) && leaped.color() != pawn.color();
     }
 
-    private static Board setUpBoard(Move lastMove) {
-        int dir = lastMove.moved().color() == Color.WHITE ? 1 : -1;
-        int column = lastMove.end().column();
-        int row = lastMove.end().row() - dir;
-        Tile pawnLoc = Tile.valueOf(column, row);
-        Board board = new EnumMapBoard(lastMove.result());
-        board.put(pawnLoc, board.remove(lastMove.end()));
-        return board;
+    /*
+     * Returns the tile of the captured pawn, which is next to the start tile in
+     * the column of the end tile.
+     */
+    private static Tile capturedPosition(Tile start, Tile end) {
+        return Tile.valueOf(end.column(), start.row());
     }
 
     /**
@@ -133,6 +134,14 @@ public final class EnPassante implements Move {
         return Board.unmodifiable(result);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Kind kind() {
+        return Kind.EN_PASSANTE;
+    }
+
     /**
      * {@inheritDoc}
      */
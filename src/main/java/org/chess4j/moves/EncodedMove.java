@@ -0,0 +1,153 @@
+package org.chess4j.moves;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.chess4j.Board;
+import org.chess4j.MutablePosition;
+import org.chess4j.Tile;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * An encoded move adapts a packed move as specified by {@link PackedMove} to
+ * the {@link Move} interface. The initial and the result board are taken from
+ * the position the packed move is made on. Opposed to the other move classes
+ * an encoded move performs no validity check, as packed moves are created by
+ * code that already knows them to be valid.
+ */
+public final class EncodedMove implements Move {
+
+    /**
+     * The packed move.
+     */
+    private final int move;
+
+    /**
+     * The former board position.
+     */
+    private final Board initial;
+
+    /**
+     * The later board position.
+     */
+    private final Board result;
+
+    // Private constructor
+    private EncodedMove(int move, Board initial, Board result) {
+        this.move = move;
+        this.initial = initial;
+        this.result = result;
+    }
+
+    /**
+     * Static factory that returns the move denoted by the given packed move in
+     * the given position. The position is left unchanged.
+     *
+     * @param move     the packed move, which must be valid in the position.
+     * @param position the position the move is made on.
+     * @return the packed move as a move.
+     */
+    public static Move of(int move, MutablePosition position) {
+        Objects.requireNonNull(position);
+        Board initial = Board.copy(position.board());
+        position.makeMove(move);
+        Board result = Board.copy(position.board());
+        position.unmakeMove();
+        return new EncodedMove(move, initial, result);
+    }
+
+    /**
+     * Static factory that returns the move denoted by the given packed move
+     * between the given boards, which are taken as they are.
+     *
+     * @param move    the packed move, which must lead from initial to result.
+     * @param initial the board before the move.
+     * @param result  the board after the move.
+     * @return the packed move as a move.
+     */
+    public static Move of(int move, Board initial, Board result) {
+        return new EncodedMove(move, Objects.requireNonNull(initial), Objects.requireNonNull(result));
+    }
+
+    /**
+     * Returns the packed move.
+     *
+     * @return the packed move.
+     */
+    public int packed() {
+        return move;
+    }
+
+    /**
+     * Returns the type the moved pawn is promoted to or {@code null} if the move
+     * is no promotion.
+     *
+     * @return the promotion type or {@code null}.
+     */
+    public Type promotion() {
+        return PackedMove.promotion(move);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Tile start() {
+        return PackedMove.start(move);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Tile end() {
+        return PackedMove.end(move);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Board initial() {
+        return initial;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Board result() {
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Kind kind() {
+        return PackedMove.kind(move);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An en-passant capture takes the pawn next to the start tile instead of a
+     * piece on the end tile.
+     */
+    @Override
+    public Optional<Piece> captured() {
+        if (kind() == Kind.EN_PASSANTE) {
+            return Optional.ofNullable(initial.get(Tile.valueOf(end().column(), start().row())));
+        }
+        return Move.super.captured();
+    }
+
+    /**
+     * Returns the move in coordinate notation.
+     */
+    @Override
+    public String toString() {
+        return PackedMove.toString(move);
+    }
+}
@@ -63,4 +63,43 @@ public interface Move {
 	default Optional<Piece> captured() {
 		return Optional.ofNullable(initial().get(end()));
 	}
+
+	/**
+	 * Returns the kind of the move, which tells how the move changes the board
+	 * without the need to compare the initial and the resulting position.
+	 *
+	 * @return the kind of the move.
+	 */
+	Kind kind();
+
+	/**
+	 * The kinds of moves, one for each move class.
+	 */
+	enum Kind {
+
+		/**
+		 * A move as performed by {@link SimpleMove}.
+		 */
+		SIMPLE,
+
+		/**
+		 * A move as performed by {@link PawnMove}.
+		 */
+		PAWN_MOVE,
+
+		/**
+		 * A move as performed by {@link PawnLeap}.
+		 */
+		PAWN_LEAP,
+
+		/**
+		 * A move as performed by {@link EnPassante}.
+		 */
+		EN_PASSANTE,
+
+		/**
+		 * A move as performed by {@link Rochade}.
+		 */
+		ROCHADE
+	}
 }
@@ -0,0 +1,371 @@
+package org.chess4j.moves;
+
+import org.chess4j.Bitboards;
+import org.chess4j.Board;
+import org.chess4j.MutablePosition;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * Generates the legal moves of a position as packed moves, see
+ * {@link PackedMove}. The moves of all pieces are produced in one pass over the
+ * piece masks of the board from the precomputed attack tables of
+ * {@link Bitboards}, including rochades, en-passant captures and one move per
+ * promotion type.
+ * <p>
+ * Only legal moves are emitted, without making a move to test whether it leaves
+ * the own king in check. The pieces giving check and the pinned pieces are
+ * computed once per position: in check all moves but king moves must capture
+ * the checking piece or block its line, a double check leaves only king moves,
+ * a pinned piece stays on the line through its king and king moves are tested
+ * against the attacks of the enemy with the king taken off the board. Only
+ * en-passant captures, which remove two pieces from a row, are made and
+ * unmade on the position to test them. Boards that do not hold exactly one
+ * king of the moving color are handled by making and unmaking every move.
+ * <p>
+ * Rochades follow the castling rights of the position. En-passant captures are
+ * only generated for the player whose turn it is in the position, as the target
+ * tile expires after one move.
+ * <p>
+ * The legal moves can also be generated in two stages, see
+ * {@link #legalCaptures(MutablePosition, Color, long, MoveList)} and
+ * {@link #legalQuiets(MutablePosition, Color, long, MoveList)}, so that a
+ * consumer like {@link MovePicker} only generates quiet moves if it needs them.
+ */
+public final class MoveGenerator {
+
+    /**
+     * The types a pawn can be promoted to.
+     */
+    private static final Type[] PROMOTIONS = { Type.QUEEN, Type.ROOK, Type.BISHOP, Type.KNIGHT };
+
+    /**
+     * The mask of the first row.
+     */
+    private static final long FIRST_ROW = 0xFF00000000000000L;
+
+    /**
+     * The mask of the eighth row.
+     */
+    private static final long EIGHTH_ROW = 0x00000000000000FFL;
+
+    /**
+     * The king ordinal that marks a pseudo-legal generation.
+     */
+    private static final int NO_KING = -1;
+
+    /**
+     * The stage of captures, en-passant captures and promotions.
+     */
+    private static final int CAPTURES = 1;
+
+    /**
+     * The stage of all other moves.
+     */
+    private static final int QUIETS = 2;
+
+    /**
+     * Both stages.
+     */
+    private static final int ALL = CAPTURES | QUIETS;
+
+    // Private constructor
+    private MoveGenerator() {
+    }
+
+    /**
+     * Appends all legal moves of the player whose turn it is to the given list.
+     *
+     * @param position the position.
+     * @param moves    the list the moves are appended to.
+     */
+    public static void legalMoves(MutablePosition position, MoveList moves) {
+        legalMoves(position, position.sideToMove(), -1L, moves);
+    }
+
+    /**
+     * Appends all legal moves of the given color that start on a tile of the
+     * given mask to the given list. The position is left unchanged.
+     *
+     * @param position the position.
+     * @param color    the color of the moving player.
+     * @param from     the mask of the start tiles.
+     * @param moves    the list the moves are appended to.
+     */
+    public static void legalMoves(MutablePosition position, Color color, long from, MoveList moves) {
+        legalMoves(position, color, from, ALL, moves);
+    }
+
+    /**
+     * Appends all legal captures, en-passant captures and promotions of the given
+     * color that start on a tile of the given mask to the given list.
+     *
+     * @param position the position.
+     * @param color    the color of the moving player.
+     * @param from     the mask of the start tiles.
+     * @param moves    the list the moves are appended to.
+     */
+    public static void legalCaptures(MutablePosition position, Color color, long from, MoveList moves) {
+        legalMoves(position, color, from, CAPTURES, moves);
+    }
+
+    /**
+     * Appends all legal moves of the given color that start on a tile of the
+     * given mask and that are not appended by
+     * {@link #legalCaptures(MutablePosition, Color, long, MoveList)}, which
+     * includes rochades.
+     *
+     * @param position the position.
+     * @param color    the color of the moving player.
+     * @param from     the mask of the start tiles.
+     * @param moves    the list the moves are appended to.
+     */
+    public static void legalQuiets(MutablePosition position, Color color, long from, MoveList moves) {
+        legalMoves(position, color, from, QUIETS, moves);
+    }
+
+    /*
+     * Appends the legal moves of the given stages.
+     */
+    private static void legalMoves(MutablePosition position, Color color, long from, int stage, MoveList moves) {
+        Board board = position.board();
+        long kings = board.pieces(color, Type.KING);
+        if (Long.bitCount(kings) != 1) {
+            int first = moves.size();
+            generate(position, color, from, stage, -1L, 0L, NO_KING, moves);
+            int legal = first;
+            for (int i = first; i < moves.size(); i++) {
+                int move = moves.get(i);
+                if (isLegal(position, color, move)) {
+                    moves.set(legal++, move);
+                }
+            }
+            moves.truncate(legal);
+            return;
+        }
+        int king = Long.numberOfTrailingZeros(kings);
+        long checkers = board.attackers(Tile.ofOrdinal(king)) & board.occupied(color.swap());
+        long targets = -1L;
+        if (Long.bitCount(checkers) > 1) {
+            targets = 0L;
+        } else if (checkers != 0L) {
+            targets = checkers | Bitboards.between(king, Long.numberOfTrailingZeros(checkers));
+        }
+        generate(position, color, from, stage, targets, pinned(board, color, king), king, moves);
+    }
+
+    /**
+     * Appends all moves of the given color that start on a tile of the given mask
+     * to the given list regardless of whether they leave the own king in check.
+     * Rochades are only generated if neither the king nor the tile it passes is
+     * attacked.
+     *
+     * @param position the position.
+     * @param color    the color of the moving player.
+     * @param from     the mask of the start tiles.
+     * @param moves    the list the moves are appended to.
+     */
+    public static void pseudoLegalMoves(MutablePosition position, Color color, long from, MoveList moves) {
+        generate(position, color, from, ALL, -1L, 0L, NO_KING, moves);
+    }
+
+    /*
+     * Returns true if the move does not leave the king of the given color in
+     * check, which is tested by making and unmaking the move.
+     */
+    private static boolean isLegal(MutablePosition position, Color color, int move) {
+        position.makeMove(move);
+        boolean inCheck = position.inCheck(color);
+        position.unmakeMove();
+        return !inCheck;
+    }
+
+    /*
+     * Returns the mask of the pieces of the given color that are the only piece
+     * between their king and an enemy rook, bishop or queen on a common line.
+     */
+    private static long pinned(Board board, Color color, int king) {
+        Color enemy = color.swap();
+        long occupied = board.occupied();
+        long queens = board.pieces(enemy, Type.QUEEN);
+        long snipers = (Bitboards.rookAttacks(king, 0L) & (board.pieces(enemy, Type.ROOK) | queens))
+                | (Bitboards.bishopAttacks(king, 0L) & (board.pieces(enemy, Type.BISHOP) | queens));
+        long pinned = 0L;
+        for (; snipers != 0L; snipers &= snipers - 1) {
+            long blockers = Bitboards.between(king, Long.numberOfTrailingZeros(snipers)) & occupied;
+            if (blockers != 0L && (blockers & blockers - 1) == 0L) {
+                pinned |= blockers;
+            }
+        }
+        return pinned & board.occupied(color);
+    }
+
+    /*
+     * Appends the moves of the given stages and color that start on a tile of
+     * the mask. All moves but king moves must end on the targets, and pinned
+     * pieces must stay on the line through the king. If the king is NO_KING, the
+     * moves are pseudo-legal.
+     */
+    private static void generate(MutablePosition position, Color color, long from, int stage, long targets,
+            long pinned, int king, MoveList moves) {
+        Board board = position.board();
+        long occupied = board.occupied();
+        long ends = ((stage & CAPTURES) != 0 ? board.occupied(color.swap()) : 0L)
+                | ((stage & QUIETS) != 0 ? ~occupied : 0L);
+        long movable = ends & targets;
+
+        pawnMoves(position, color, from, stage, targets, pinned, king, moves);
+        for (long knights = board.pieces(color, Type.KNIGHT) & from & ~pinned; knights != 0L;
+                knights &= knights - 1) {
+            int square = Long.numberOfTrailingZeros(knights);
+            add(square, Bitboards.knightAttacks(square) & movable, moves);
+        }
+        for (long bishops = board.pieces(color, Type.BISHOP) & from; bishops != 0L; bishops &= bishops - 1) {
+            int square = Long.numberOfTrailingZeros(bishops);
+            add(square, Bitboards.bishopAttacks(square, occupied) & movable & pin(square, pinned, king), moves);
+        }
+        for (long rooks = board.pieces(color, Type.ROOK) & from; rooks != 0L; rooks &= rooks - 1) {
+            int square = Long.numberOfTrailingZeros(rooks);
+            add(square, Bitboards.rookAttacks(square, occupied) & movable & pin(square, pinned, king), moves);
+        }
+        for (long queens = board.pieces(color, Type.QUEEN) & from; queens != 0L; queens &= queens - 1) {
+            int square = Long.numberOfTrailingZeros(queens);
+            add(square, Bitboards.queenAttacks(square, occupied) & movable & pin(square, pinned, king), moves);
+        }
+        for (long kings = board.pieces(color, Type.KING) & from; kings != 0L; kings &= kings - 1) {
+            int square = Long.numberOfTrailingZeros(kings);
+            long attacks = Bitboards.kingAttacks(square) & ends;
+            if (king != NO_KING) {
+                // The king must not hide behind itself from a sliding piece.
+                long without = occupied & ~(1L << square);
+                for (long steps = attacks; steps != 0L; steps &= steps - 1) {
+                    int target = Long.numberOfTrailingZeros(steps);
+                    if (board.isAttacked(target, color.swap(), without)) {
+                        attacks &= ~(1L << target);
+                    }
+                }
+            }
+            add(square, attacks, moves);
+        }
+        if (targets == -1L && (stage & QUIETS) != 0) {
+            rochades(position, color, from, king != NO_KING, moves);
+        }
+    }
+
+    /*
+     * Returns the line through the king a pinned piece must stay on or all tiles
+     * if the piece is not pinned.
+     */
+    private static long pin(int square, long pinned, int king) {
+        return (pinned & 1L << square) == 0L ? -1L : Bitboards.line(king, square);
+    }
+
+    /*
+     * Appends a simple move from the square to every tile of the targets.
+     */
+    private static void add(int square, long targets, MoveList moves) {
+        int simple = Kind.SIMPLE.ordinal();
+        for (; targets != 0L; targets &= targets - 1) {
+            moves.add(PackedMove.of(square, Long.numberOfTrailingZeros(targets), simple));
+        }
+    }
+
+    /*
+     * Appends all pawn moves, leaps, captures and en-passant captures.
+     */
+    private static void pawnMoves(MutablePosition position, Color color, long from, int stage, long targets,
+            long pinned, int king, MoveList moves) {
+        Board board = position.board();
+        long occupied = board.occupied();
+        long enemies = board.occupied(color.swap());
+        boolean isWhite = color == Color.WHITE;
+        int forward = isWhite ? -8 : 8;
+        long startRow = isWhite ? FIRST_ROW >>> 8 : EIGHTH_ROW << 8;
+        long lastRow = isWhite ? EIGHTH_ROW : FIRST_ROW;
+        Tile enPassant = position.sideToMove() == color && (stage & CAPTURES) != 0 ? position.enPassant() : null;
+        // Pushes to the last row are promotions and belong to the captures.
+        long pushes = ((stage & CAPTURES) != 0 ? lastRow : 0L) | ((stage & QUIETS) != 0 ? ~lastRow : 0L);
+        long leaps = (stage & QUIETS) != 0 ? -1L : 0L;
+        long captures = (stage & CAPTURES) != 0 ? enemies : 0L;
+
+        for (long pawns = board.pieces(color, Type.PAWN) & from & ~lastRow; pawns != 0L; pawns &= pawns - 1) {
+            int square = Long.numberOfTrailingZeros(pawns);
+            long allowed = targets & pin(square, pinned, king);
+            int target = square + forward;
+            if ((occupied & 1L << target) == 0L) {
+                if ((allowed & pushes & 1L << target) != 0L) {
+                    addPawnMove(square, target, lastRow, moves);
+                }
+                int leap = target + forward;
+                if ((startRow & 1L << square) != 0L && (occupied & 1L << leap) == 0L
+                        && (allowed & leaps & 1L << leap) != 0L) {
+                    moves.add(PackedMove.of(square, leap, Kind.PAWN_LEAP.ordinal()));
+                }
+            }
+            long attacks = Bitboards.pawnAttacks(color, square);
+            for (long victims = attacks & captures & allowed; victims != 0L; victims &= victims - 1) {
+                addPawnMove(square, Long.numberOfTrailingZeros(victims), lastRow, moves);
+            }
+            if (enPassant != null && (attacks & enPassant.mask()) != 0L) {
+                int move = PackedMove.of(square, enPassant.ordinal(), Kind.EN_PASSANTE.ordinal());
+                if (king == NO_KING || isLegal(position, color, move)) {
+                    moves.add(move);
+                }
+            }
+        }
+    }
+
+    /*
+     * Appends a pawn move or one move per promotion type if the target is on the
+     * last row.
+     */
+    private static void addPawnMove(int square, int target, long lastRow, MoveList moves) {
+        int move = PackedMove.of(square, target, Kind.PAWN_MOVE.ordinal());
+        if ((lastRow & 1L << target) == 0L) {
+            moves.add(move);
+        } else {
+            for (Type type : PROMOTIONS) {
+                moves.add(PackedMove.withPromotion(move, type));
+            }
+        }
+    }
+
+    /*
+     * Appends all rochades the castling rights of the position allow. If the
+     * rochades must be legal, the king must not end on an attacked tile either.
+     */
+    private static void rochades(MutablePosition position, Color color, long from, boolean legal, MoveList moves) {
+        int rights = position.castlingRights();
+        rochade(position, color, from, legal, rights & Rochade.WHITE_SHORT, Tile.e1, Tile.h1, Tile.g1, moves);
+        rochade(position, color, from, legal, rights & Rochade.WHITE_LONG, Tile.e1, Tile.a1, Tile.c1, moves);
+        rochade(position, color, from, legal, rights & Rochade.BLACK_SHORT, Tile.e8, Tile.h8, Tile.g8, moves);
+        rochade(position, color, from, legal, rights & Rochade.BLACK_LONG, Tile.e8, Tile.a8, Tile.c8, moves);
+    }
+
+    /*
+     * Appends the rochade of the king and rook on the given tiles if the right is
+     * present, both pieces are of the given color, the tiles in between are empty
+     * and neither the king nor the tile it passes is attacked.
+     */
+    private static void rochade(MutablePosition position, Color color, long from, boolean legal, int right,
+            Tile king, Tile rook, Tile end, MoveList moves) {
+        if (right == 0 || (from & king.mask()) == 0L) {
+            return;
+        }
+        Board board = position.board();
+        if ((board.pieces(color, Type.KING) & king.mask()) == 0L || (board.pieces(color, Type.ROOK) & rook.mask()) == 0L
+                || (Bitboards.between(king, rook) & board.occupied()) != 0L) {
+            return;
+        }
+        Tile inBetween = Tile.valueOf((king.column() + end.column()) / 2, king.row());
+        if (board.isAttacked(king, color.swap()) || board.isAttacked(inBetween, color.swap())) {
+            return;
+        }
+        if (legal && board.isAttacked(end.ordinal(), color.swap(), board.occupied() & ~king.mask())) {
+            return;
+        }
+        moves.add(PackedMove.of(king, end, Kind.ROCHADE));
+    }
+}
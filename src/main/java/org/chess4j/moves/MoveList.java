@@ -0,0 +1,167 @@
+package org.chess4j.moves;
+
+import java.util.Arrays;
+
+/**
+ * A list of packed moves as encoded by {@link PackedMove} that is backed by an
+ * {@code int} array. A move list is meant to be reused: {@link #clear()} resets
+ * the size but keeps the array, so that filling the list again does not
+ * allocate. The initial capacity exceeds the number of legal moves in any chess
+ * position.
+ */
+public final class MoveList {
+
+    /**
+     * The default capacity of a move list.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The packed moves.
+     */
+    private int[] moves;
+
+    /**
+     * The number of moves in the list.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty move list with the default capacity.
+     */
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty move list with the given capacity.
+     *
+     * @param capacity the initial capacity.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public MoveList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.moves = new int[capacity];
+    }
+
+    /**
+     * Appends the given packed move to the list.
+     *
+     * @param move the packed move.
+     */
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = move;
+    }
+
+    /**
+     * Returns the packed move at the given index.
+     *
+     * @param index the index of the move.
+     * @return the packed move.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return moves[index];
+    }
+
+    /**
+     * Replaces the packed move at the given index.
+     *
+     * @param index the index of the move.
+     * @param move  the new packed move.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void set(int index, int move) {
+        get(index);
+        moves[index] = move;
+    }
+
+    /**
+     * Swaps the moves at the given indices.
+     *
+     * @param first  the index of the first move.
+     * @param second the index of the second move.
+     * @throws IndexOutOfBoundsException if any index is out of range.
+     */
+    public void swap(int first, int second) {
+        int move = get(first);
+        moves[first] = get(second);
+        moves[second] = move;
+    }
+
+    /**
+     * Returns {@code true} if the list contains the given packed move.
+     *
+     * @param move the packed move.
+     * @return {@code true} if the move is contained.
+     */
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of moves in the list.
+     *
+     * @return the number of moves.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the list contains no moves.
+     *
+     * @return {@code true} if the list is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all moves from the list without releasing the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Removes all moves at and after the given index.
+     *
+     * @param size the new size of the list.
+     * @throws IndexOutOfBoundsException if the size exceeds the current size.
+     */
+    public void truncate(int size) {
+        if (size < 0 || size > this.size) {
+            throw new IndexOutOfBoundsException(size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the moves in coordinate notation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(PackedMove.toString(moves[i]));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,249 @@
+package org.chess4j.moves;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.chess4j.Board;
+import org.chess4j.MutablePosition;
+import org.chess4j.Player.Color;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * A move picker hands out the legal moves of a position one at a time in
+ * stages, so that a consumer that only needs the first moves does not pay for
+ * the generation of the others. The stages are
+ * <ol>
+ * <li>the preferred move, for example the best move of an earlier search, if
+ * it is legal,</li>
+ * <li>captures, en-passant captures and promotions, the most valuable victim
+ * first and among those the least valuable attacker first,</li>
+ * <li>all other moves including rochades.</li>
+ * </ol>
+ * Each stage is generated by {@link MoveGenerator} only once the previous stage
+ * is exhausted, and the preferred move is not handed out twice. A picker reuses
+ * its move list and scores for every stage and, after {@link #reset(int)}, for
+ * every position, so that picking moves does not allocate.
+ * <p>
+ * The position must not be changed while the moves of a stage are handed out.
+ * A picker is not thread-safe.
+ */
+public final class MovePicker {
+
+    /**
+     * The value of each piece type indexed by its ordinal.
+     */
+    private static final int[] VALUES = new int[Type.values().length];
+
+    static {
+        VALUES[Type.PAWN.ordinal()] = 1;
+        VALUES[Type.KNIGHT.ordinal()] = 3;
+        VALUES[Type.BISHOP.ordinal()] = 3;
+        VALUES[Type.ROOK.ordinal()] = 5;
+        VALUES[Type.QUEEN.ordinal()] = 9;
+        VALUES[Type.KING.ordinal()] = 10;
+    }
+
+    /**
+     * The stages in the order in which they are handed out.
+     */
+    private enum Stage {
+        PREFERRED, CAPTURES, QUIETS, DONE
+    }
+
+    /**
+     * The position of which the moves are picked.
+     */
+    private MutablePosition position;
+
+    /**
+     * The color of the moving player.
+     */
+    private final Color color;
+
+    /**
+     * The moves of the current stage.
+     */
+    private final MoveList moves = new MoveList();
+
+    /**
+     * The ordering scores of the captures parallel to the moves.
+     */
+    private int[] scores = new int[64];
+
+    /**
+     * The preferred move or {@link PackedMove#NONE}.
+     */
+    private int preferred;
+
+    /**
+     * The current stage.
+     */
+    private Stage stage;
+
+    /**
+     * The index of the next move of the current stage.
+     */
+    private int index;
+
+    /**
+     * Constructs a picker of the moves of the player whose turn it is without a
+     * preferred move.
+     *
+     * @param position the position.
+     */
+    public MovePicker(MutablePosition position) {
+        this(position, position.sideToMove());
+    }
+
+    /**
+     * Constructs a picker of the moves of the given color without a preferred
+     * move.
+     *
+     * @param position the position.
+     * @param color    the color of the moving player.
+     */
+    public MovePicker(MutablePosition position, Color color) {
+        this.position = Objects.requireNonNull(position);
+        this.color = Objects.requireNonNull(color);
+        reset(PackedMove.NONE);
+    }
+
+    /**
+     * Starts over with the moves of the current state of the position and the
+     * given preferred move.
+     *
+     * @param preferred the packed move to hand out first if it is legal or
+     *                  {@link PackedMove#NONE}.
+     */
+    public void reset(int preferred) {
+        this.preferred = preferred;
+        this.stage = Stage.PREFERRED;
+        this.index = 0;
+        moves.clear();
+    }
+
+    /**
+     * Starts over with the moves of the given position and the given preferred
+     * move, so that one picker serves positions that replace each other.
+     *
+     * @param position  the position.
+     * @param preferred the packed move to hand out first if it is legal or
+     *                  {@link PackedMove#NONE}.
+     */
+    public void reset(MutablePosition position, int preferred) {
+        this.position = Objects.requireNonNull(position);
+        reset(preferred);
+    }
+
+    /**
+     * Returns the next legal move or {@link PackedMove#NONE} if all moves have
+     * been handed out.
+     *
+     * @return the next packed move or {@link PackedMove#NONE}.
+     */
+    public int next() {
+        while (true) {
+            switch (stage) {
+            case PREFERRED:
+                stage = Stage.CAPTURES;
+                if (isLegal(preferred)) {
+                    return preferred;
+                }
+                preferred = PackedMove.NONE;
+                break;
+            case CAPTURES:
+                if (index == 0 && moves.isEmpty()) {
+                    MoveGenerator.legalCaptures(position, color, -1L, moves);
+                    score();
+                }
+                if (index < moves.size()) {
+                    int move = pickBest();
+                    if (move != preferred) {
+                        return move;
+                    }
+                    break;
+                }
+                nextStage(Stage.QUIETS);
+                MoveGenerator.legalQuiets(position, color, -1L, moves);
+                break;
+            case QUIETS:
+                if (index < moves.size()) {
+                    int move = moves.get(index++);
+                    if (move != preferred) {
+                        return move;
+                    }
+                    break;
+                }
+                nextStage(Stage.DONE);
+                break;
+            default:
+                return PackedMove.NONE;
+            }
+        }
+    }
+
+    /*
+     * Switches to the given stage with an empty move list.
+     */
+    private void nextStage(Stage next) {
+        stage = next;
+        index = 0;
+        moves.clear();
+    }
+
+    /*
+     * Returns true if the move is one of the legal moves from its start tile.
+     */
+    private boolean isLegal(int move) {
+        if (move == PackedMove.NONE) {
+            return false;
+        }
+        MoveGenerator.legalMoves(position, color, 1L << PackedMove.from(move), moves);
+        boolean legal = moves.contains(move);
+        moves.clear();
+        return legal;
+    }
+
+    /*
+     * Scores the captures by their most valuable victim and least valuable
+     * attacker. A promotion counts as the capture of the new piece.
+     */
+    private void score() {
+        if (scores.length < moves.size()) {
+            scores = Arrays.copyOf(scores, moves.size());
+        }
+        Board board = position.board();
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            Piece attacker = board.get(PackedMove.start(move));
+            Piece victim = board.get(PackedMove.end(move));
+            int value = victim == null ? 0 : VALUES[victim.type().ordinal()];
+            if (PackedMove.kind(move) == Move.Kind.EN_PASSANTE) {
+                value = VALUES[Type.PAWN.ordinal()];
+            }
+            Type promotion = PackedMove.promotion(move);
+            if (promotion != null) {
+                value += VALUES[promotion.ordinal()] - VALUES[Type.PAWN.ordinal()];
+            }
+            scores[i] = value * 16 - VALUES[attacker.type().ordinal()];
+        }
+    }
+
+    /*
+     * Moves the best remaining capture to the current index and returns it.
+     */
+    private int pickBest() {
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        moves.swap(index, best);
+        int score = scores[index];
+        scores[index] = scores[best];
+        scores[best] = score;
+        return moves.get(index++);
+    }
+}
@@ -0,0 +1,216 @@
+package org.chess4j.moves;
+
+import java.util.Objects;
+
+import org.chess4j.Tile;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.pieces.Piece.Type;
+
+/**
+ * Encodes a move into a single {@code int} so that candidate moves can be kept
+ * in primitive arrays such as {@link MoveList} instead of being represented by
+ * {@link Move} objects. The bits of a packed move are laid out as follows.
+ * <ul>
+ * <li>bits 0 to 5: the ordinal of the start tile.</li>
+ * <li>bits 6 to 11: the ordinal of the end tile.</li>
+ * <li>bits 12 to 14: the ordinal of the {@link Kind} of the move.</li>
+ * <li>bits 15 to 17: the ordinal of the promotion {@link Type} plus one or zero
+ * if the move is no promotion.</li>
+ * </ul>
+ * A packed move can be turned back into a {@link Move} by
+ * {@link EncodedMove#of(int, org.chess4j.MutablePosition)}.
+ */
+public final class PackedMove {
+
+    /**
+     * A value that denotes no move, as no move starts and ends on the same tile.
+     */
+    public static final int NONE = 0;
+
+    /*
+     * The mask of a tile ordinal.
+     */
+    private static final int TILE_MASK = 0x3F;
+
+    /*
+     * The shift of the end tile.
+     */
+    private static final int END_SHIFT = 6;
+
+    /*
+     * The shift of the kind.
+     */
+    private static final int KIND_SHIFT = 12;
+
+    /*
+     * The shift of the promotion type.
+     */
+    private static final int PROMOTION_SHIFT = 15;
+
+    /*
+     * All kinds in ordinal order.
+     */
+    private static final Kind[] KINDS = Kind.values();
+
+    /*
+     * All types in ordinal order.
+     */
+    private static final Type[] TYPES = Type.values();
+
+    /*
+     * The letters of the types in ordinal order as used in coordinate notation.
+     */
+    private static final String TYPE_LETTERS = "prnbqk";
+
+    // Private constructor
+    private PackedMove() {
+    }
+
+    /**
+     * Returns the packed move of the given kind from start to end.
+     *
+     * @param start the start tile.
+     * @param end   the end tile.
+     * @param kind  the kind of the move.
+     * @return the packed move.
+     */
+    public static int of(Tile start, Tile end, Kind kind) {
+        return of(start.ordinal(), end.ordinal(), kind.ordinal());
+    }
+
+    /**
+     * Returns the packed move of the given kind from start to end that promotes
+     * the moved pawn to the given type.
+     *
+     * @param start     the start tile.
+     * @param end       the end tile.
+     * @param kind      the kind of the move.
+     * @param promotion the type the pawn is promoted to or {@code null}.
+     * @return the packed move.
+     */
+    public static int of(Tile start, Tile end, Kind kind, Type promotion) {
+        int move = of(start, end, kind);
+        return promotion == null ? move : withPromotion(move, promotion);
+    }
+
+    /**
+     * Returns the packed move of the given move. The promotion of a pawn move to
+     * the last row is taken from the piece on the end tile of the result.
+     *
+     * @param move the move.
+     * @return the packed move.
+     */
+    public static int of(Move move) {
+        if (move instanceof EncodedMove) {
+            return ((EncodedMove) move).packed();
+        }
+        Type promotion = null;
+        if (move instanceof PawnMove) {
+            promotion = ((PawnMove) move).promotion();
+        } else if (move.kind() == Kind.PAWN_MOVE && (move.end().row() == 1 || move.end().row() == 8)) {
+            Type type = move.result().get(move.end()).type();
+            promotion = type == Type.PAWN ? null : type;
+        }
+        return of(move.start(), move.end(), move.kind(), promotion);
+    }
+
+    /**
+     * Returns the packed move of the kind with the given ordinal between the tiles
+     * with the given ordinals.
+     *
+     * @param start the ordinal of the start tile.
+     * @param end   the ordinal of the end tile.
+     * @param kind  the ordinal of the kind.
+     * @return the packed move.
+     */
+    public static int of(int start, int end, int kind) {
+        return start | end << END_SHIFT | kind << KIND_SHIFT;
+    }
+
+    /**
+     * Returns the given packed move with the promotion to the given type.
+     *
+     * @param move      the packed move.
+     * @param promotion the type the pawn is promoted to.
+     * @return the packed move with the promotion.
+     */
+    public static int withPromotion(int move, Type promotion) {
+        Objects.requireNonNull(promotion);
+        return (move & ~(0x7 << PROMOTION_SHIFT)) | (promotion.ordinal() + 1) << PROMOTION_SHIFT;
+    }
+
+    /**
+     * Returns the ordinal of the start tile of the packed move.
+     *
+     * @param move the packed move.
+     * @return the ordinal of the start tile.
+     */
+    public static int from(int move) {
+        return move & TILE_MASK;
+    }
+
+    /**
+     * Returns the ordinal of the end tile of the packed move.
+     *
+     * @param move the packed move.
+     * @return the ordinal of the end tile.
+     */
+    public static int to(int move) {
+        return (move >>> END_SHIFT) & TILE_MASK;
+    }
+
+    /**
+     * Returns the start tile of the packed move.
+     *
+     * @param move the packed move.
+     * @return the start tile.
+     */
+    public static Tile start(int move) {
+        return Tile.ofOrdinal(from(move));
+    }
+
+    /**
+     * Returns the end tile of the packed move.
+     *
+     * @param move the packed move.
+     * @return the end tile.
+     */
+    public static Tile end(int move) {
+        return Tile.ofOrdinal(to(move));
+    }
+
+    /**
+     * Returns the kind of the packed move.
+     *
+     * @param move the packed move.
+     * @return the kind of the move.
+     */
+    public static Kind kind(int move) {
+        return KINDS[(move >>> KIND_SHIFT) & 0x7];
+    }
+
+    /**
+     * Returns the type the moved pawn is promoted to or {@code null} if the packed
+     * move is no promotion.
+     *
+     * @param move the packed move.
+     * @return the promotion type or {@code null}.
+     */
+    public static Type promotion(int move) {
+        int promotion = (move >>> PROMOTION_SHIFT) & 0x7;
+        return promotion == 0 ? null : TYPES[promotion - 1];
+    }
+
+    /**
+     * Returns a string representation of the packed move in coordinate notation,
+     * for example {@code e2e4} or {@code e7e8q}.
+     *
+     * @param move the packed move.
+     * @return the coordinate notation of the move.
+     */
+    public static String toString(int move) {
+        Type promotion = promotion(move);
+        String notation = start(move).name() + end(move).name();
+        return promotion == null ? notation : notation + TYPE_LETTERS.charAt(promotion.ordinal());
+    }
+}
@@ -1,7 +1,7 @@
 package org.chess4j.moves;
 
 import org.chess4j.Board;
-import org.chess4j.EnumMapBoard;
+import org.chess4j.PersistentBoard;
 import org.chess4j.Tile;
 import org.chess4j.Player.Color;
 import org.chess4j.pieces.Piece;
@@ -39,10 +39,9 @@ public final class PawnLeap implements Move {
     private PawnLeap(Tile start, Tile end, Board initial) {
         this.start = start;
         this.end = end;
-        this.initial = Board.copy(initial);
-        Board result = new EnumMapBoard(initial);
-        result.put(end, result.remove(start));
-        this.result = Board.copy(result);
+        PersistentBoard board = PersistentBoard.of(initial);
+        this.initial = board;
+        this.result = board.move(start, end);
     }
 
     /**
@@ -61,7 +60,7 @@ public final class PawnLeap implements Move {
      * Checks if the pawn move with the given board position is valid. In order to
      * determine if the given pawn on start has moved or not the row of the start
      * tile is checked. If that is the case then it is checked if the pawn leaps two
-     * row in its direction. If not the move is {@code false}.
+     * row in its direction over an empty tile. If not the move is {@code false}.
      *
      * @param former the initial position.
      * @param start  the start coordinate.
@@ -84,7 +83,9 @@ public final class PawnLeap implements Move {
 
             boolean isOnStart = pawnColor == Color.WHITE ? start.row() == 2 : start.row() == 7;
 
-            return isOnStart && deltaRow * dir == 2 && deltaColumn == 0;
+            // The pawn cannot leap over a piece.
+            return isOnStart && deltaRow * dir == 2 && deltaColumn == 0
+                    && !board.containsKey(Tile.valueOf(start.column(), start.row() + dir));
         } else {
             return false;
         }
@@ -121,4 +122,12 @@ public final class PawnLeap implements Move {
     public Board result() {
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Kind kind() {
+        return Kind.PAWN_LEAP;
+    }
 }
@@ -1,16 +1,24 @@
 package org.chess4j.moves;
 
+import java.util.Objects;
+
 import org.chess4j.Board;
-import org.chess4j.EnumMapBoard;
+import org.chess4j.PersistentBoard;
 import org.chess4j.Tile;
 import org.chess4j.Player.Color;
 import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
 
 /**
  * A valid pawn move is either a normal move one row forward the enemy camp or a
  * pawn capture of an enemy piece. As with all moves a static factory method
  * {@link #perform(Tile, Tile, Board)} is offered which performs a validity
  * check before creation. If the move is invalid then {@code null} is returned.
+ * <p>
+ * A pawn move to the last row is a promotion, which is created by
+ * {@link #perform(Tile, Tile, Board, Type)} with the type of the new piece.
+ * The pawn is replaced by a new piece of that type on the result board, so
+ * that no piece of an earlier board is changed.
  */
 public final class PawnMove implements Move {
 
@@ -34,14 +42,20 @@ public final class PawnMove implements Move {
      */
     private final Board result;
 
+    /**
+     * The type the pawn is promoted to or {@code null}.
+     */
+    private final Type promotion;
+
     // Private constructor is only invoked after a validity check.
-    private PawnMove(Tile start, Tile end, Board initial) {
+    private PawnMove(Tile start, Tile end, Board initial, Type promotion) {
         this.start = start;
         this.end = end;
-        this.initial = Board.copy(initial);
-        Board result = new EnumMapBoard(initial);
-        result.put(end, result.remove(start));
-        this.result = Board.copy(result);
+        PersistentBoard board = PersistentBoard.of(initial);
+        this.initial = board;
+        this.promotion = promotion;
+        PersistentBoard result = board.move(start, end);
+        this.result = promotion == null ? result : result.with(end, Piece.of(result.get(end).color(), promotion));
     }
 
     /**
@@ -59,10 +73,45 @@ public final class PawnMove implements Move {
      */
     public static Move perform(Tile start, Tile end, Board board) {
         return isValidMoveForward(start, end, board) || isValidCapture(start, end, board)
-                ? new PawnMove(start, end, board)
+                ? new PawnMove(start, end, board, null)
                 : null;
     }
 
+    /**
+     * Returns a promotion or {@code null} if the move would be invalid. A valid
+     * promotion is a valid pawn move, see {@link #perform(Tile, Tile, Board)},
+     * that ends on the last row of the enemy camp and promotes the pawn to a
+     * {@link Type#QUEEN}, {@link Type#ROOK}, {@link Type#BISHOP} or
+     * {@link Type#KNIGHT}.
+     *
+     * @param start     the start coordinate.
+     * @param end       the end coordinate.
+     * @param board     the initial position.
+     * @param promotion the type the pawn is promoted to.
+     * @return a valid promotion or {@code null} if the move would be invalid.
+     */
+    public static Move perform(Tile start, Tile end, Board board, Type promotion) {
+        Objects.requireNonNull(promotion);
+        return isPromotion(start, end, board) && promotion != Type.PAWN && promotion != Type.KING
+                && (isValidMoveForward(start, end, board) || isValidCapture(start, end, board))
+                        ? new PawnMove(start, end, board, promotion)
+                        : null;
+    }
+
+    /**
+     * Checks if a pawn move from start to end reaches the last row of the enemy
+     * camp, which requires a promotion. The validity of the move is not checked.
+     *
+     * @param start the start coordinate.
+     * @param end   the end coordinate.
+     * @param board the initial position.
+     * @return {@code true} if the pawn on start would be promoted on end.
+     */
+    public static boolean isPromotion(Tile start, Tile end, Board board) {
+        Piece pawn = board.get(start);
+        return Piece.isPawn(pawn) && end.row() == (pawn.color() == Color.WHITE ? 8 : 1);
+    }
+
     /**
      * Checks if the pawn move with the given game position is valid. A valid pawn
      * move is a normal move by one tile forward in the only direction the pawn is
@@ -157,4 +206,22 @@ public final class PawnMove implements Move {
     public Board result() {
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Kind kind() {
+        return Kind.PAWN_MOVE;
+    }
+
+    /**
+     * Returns the type the pawn is promoted to or {@code null} if the move is no
+     * promotion.
+     *
+     * @return the promotion type or {@code null}.
+     */
+    public Type promotion() {
+        return promotion;
+    }
 }
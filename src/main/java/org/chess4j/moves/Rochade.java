@@ -1,9 +1,11 @@
 package org.chess4j.moves;
 
+import java.util.Arrays;
+
+import org.chess4j.Bitboards;
 import org.chess4j.Board;
 import org.chess4j.Chronicle;
-import org.chess4j.EnumMapBoard;
-import org.chess4j.Player;
+import org.chess4j.PersistentBoard;
 import org.chess4j.Tile;
 import org.chess4j.Player.Color;
 import org.chess4j.pieces.Piece;
@@ -25,6 +27,42 @@ import org.chess4j.pieces.Piece;
  */
 public final class Rochade implements Move {
 
+    /**
+     * Castling right for the king on e1 and the rook on h1.
+     */
+    public static final int WHITE_SHORT = 1;
+
+    /**
+     * Castling right for the king on e1 and the rook on a1.
+     */
+    public static final int WHITE_LONG = 2;
+
+    /**
+     * Castling right for the king on e8 and the rook on h8.
+     */
+    public static final int BLACK_SHORT = 4;
+
+    /**
+     * Castling right for the king on e8 and the rook on a8.
+     */
+    public static final int BLACK_LONG = 8;
+
+    /**
+     * The castling rights that remain after a move from or to the tile with the
+     * given ordinal.
+     */
+    private static final int[] CASTLING_MASK = new int[Tile.values().length];
+
+    static {
+        Arrays.fill(CASTLING_MASK, WHITE_SHORT | WHITE_LONG | BLACK_SHORT | BLACK_LONG);
+        CASTLING_MASK[Tile.e1.ordinal()] &= ~(WHITE_SHORT | WHITE_LONG);
+        CASTLING_MASK[Tile.h1.ordinal()] &= ~WHITE_SHORT;
+        CASTLING_MASK[Tile.a1.ordinal()] &= ~WHITE_LONG;
+        CASTLING_MASK[Tile.e8.ordinal()] &= ~(BLACK_SHORT | BLACK_LONG);
+        CASTLING_MASK[Tile.h8.ordinal()] &= ~BLACK_SHORT;
+        CASTLING_MASK[Tile.a8.ordinal()] &= ~BLACK_LONG;
+    }
+
     /**
      * The start position of the move
      */
@@ -49,13 +87,10 @@ public final class Rochade implements Move {
     private Rochade(Tile start, Tile end, Chronicle chronicle) {
         this.start = start;
         this.end = end;
-        this.initial = chronicle.current();
-        Board result = new EnumMapBoard(initial);
-        Piece rook = result.remove(getRookPosition(start, end));
-        Tile inBeetween = Tile.path(start, end).stream().findFirst().get();
-        result.put(inBeetween, rook);
-        result.put(end, result.remove(start));
-        this.result = result;
+        PersistentBoard initial = PersistentBoard.of(chronicle.current());
+        this.initial = initial;
+        Tile inBeetween = Tile.valueOf((start.column() + end.column()) / 2, start.row());
+        this.result = initial.move(getRookPosition(start, end), inBeetween).move(start, end);
     }
 
     /**
@@ -94,6 +129,12 @@ public final class Rochade implements Move {
             return false;
         }
 
+        // Check if neither piece has been moved, which the castling rights keep
+        // track of.
+        if ((chronicle.castlingRights() & right(start, end)) == 0) {
+            return false;
+        }
+
         // Get the board and relevant pieces.
         Board board = chronicle.current();
         Piece king = board.get(start);
@@ -106,34 +147,80 @@ public final class Rochade implements Move {
         }
 
         // Check if the path is clear
-        if (Tile.path(start, rookPosition).stream().anyMatch(board::containsKey)) {
+        if (!SimpleMove.isClear(Bitboards.between(start, rookPosition), board)) {
             return false;
         }
 
-        // Check if neither piece has been moved.
-        if (chronicle.hasBeenMoved(king) || chronicle.hasBeenMoved(rook)) {
+        Color color = king.color();
+        // The player cannot be in check at the beginning of the Rochade.
+        if (board.isAttacked(start, color.swap())) {
             return false;
         }
 
-        Color color = king.color();
-        // Check if any of the tiles is in check when the king moves over them.
-        if (Player.inCheck(board, color)) {
+        // The king cannot pass the tile in between which must not be attacked.
+        Tile inBeetween = Tile.valueOf((start.column() + end.column()) / 2, start.row());
+        if (board.isAttacked(inBeetween, color.swap())) {
             return false;
         }
 
-        // Create a move where the king moves one tile to the end destination.
-        Tile inBeetween = Tile.path(start, end).stream().findFirst().get();
-        Move move = SimpleMove.perform(start, inBeetween, board);
-        if (move == null) {
-            return false;
+        return true;
+    }
+
+    /**
+     * Returns the castling rights that remain after a move from start to end. A
+     * right is lost if its king or rook moves or if a piece is moved onto the
+     * tile of its rook, which captures the rook.
+     *
+     * @param rights the castling rights before the move.
+     * @param start  the start tile of the move.
+     * @param end    the end tile of the move.
+     * @return the castling rights after the move.
+     */
+    public static int remainingRights(int rights, Tile start, Tile end) {
+        return rights & CASTLING_MASK[start.ordinal()] & CASTLING_MASK[end.ordinal()];
+    }
+
+    /**
+     * Returns the castling rights of the given board before any move is made. A
+     * right is present if king and rook of equal color are placed on its tiles.
+     *
+     * @param board the initial board.
+     * @return the castling rights of the board.
+     */
+    public static int initialRights(Board board) {
+        int rights = 0;
+        if (isPair(board, Tile.e1, Tile.h1)) {
+            rights |= WHITE_SHORT;
         }
-        // If the king is in check on the inBetween tile then the rochade cannot be
-        // performed.
-        if (Player.inCheck(move.result(), color)) {
-            return false;
+        if (isPair(board, Tile.e1, Tile.a1)) {
+            rights |= WHITE_LONG;
+        }
+        if (isPair(board, Tile.e8, Tile.h8)) {
+            rights |= BLACK_SHORT;
+        }
+        if (isPair(board, Tile.e8, Tile.a8)) {
+            rights |= BLACK_LONG;
         }
+        return rights;
+    }
 
-        return true;
+    /*
+     * Returns true if king and rook of equal color are placed on the given tiles.
+     */
+    private static boolean isPair(Board board, Tile kingPosition, Tile rookPosition) {
+        Piece king = board.get(kingPosition);
+        Piece rook = board.get(rookPosition);
+        return Piece.isKing(king) && Piece.isRook(rook) && king.color() == rook.color();
+    }
+
+    /*
+     * Returns the castling right of the given valid rochade coordinates.
+     */
+    private static int right(Tile start, Tile end) {
+        if (start == Tile.e1) {
+            return end == Tile.g1 ? WHITE_SHORT : WHITE_LONG;
+        }
+        return end == Tile.g8 ? BLACK_SHORT : BLACK_LONG;
     }
 
     /*
@@ -184,6 +271,14 @@ public final class Rochade implements Move {
         return Board.unmodifiable(result);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Kind kind() {
+        return Kind.ROCHADE;
+    }
+
     /**
      * {@inheritDoc}
      *
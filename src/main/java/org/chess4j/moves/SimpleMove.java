@@ -2,8 +2,9 @@ package org.chess4j.moves;
 
 import java.util.Objects;
 
+import org.chess4j.Bitboards;
 import org.chess4j.Board;
-import org.chess4j.EnumMapBoard;
+import org.chess4j.PersistentBoard;
 import org.chess4j.Tile;
 import org.chess4j.pieces.Piece;
 
@@ -38,10 +39,9 @@ public final class SimpleMove implements Move {
     private SimpleMove(Tile start, Tile end, Board initial) {
         this.start = start;
         this.end = end;
-        this.initial = Board.copy(initial);
-        Board result = new EnumMapBoard(initial);
-        result.put(end, result.remove(start));
-        this.result = Board.copy(result);
+        PersistentBoard board = PersistentBoard.of(initial);
+        this.initial = board;
+        this.result = board.move(start, end);
     }
 
     /**
@@ -87,7 +87,7 @@ public final class SimpleMove implements Move {
         }
 
         // The path of the piece must be completely clear
-        if (!Tile.path(start, end).stream().noneMatch(initial::containsKey)) {
+        if (!isClear(Bitboards.between(start, end), initial)) {
             return false;
         }
 
@@ -132,4 +132,24 @@ public final class SimpleMove implements Move {
     public Board result() {
         return result;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Kind kind() {
+        return Kind.SIMPLE;
+    }
+
+    /**
+     * Returns {@code true} if none of the tiles in the given bitboard mask holds a
+     * piece on the given board.
+     *
+     * @param tiles the mask of the tiles.
+     * @param board the given board.
+     * @return {@code true} if all the tiles are empty.
+     */
+    static boolean isClear(long tiles, Board board) {
+        return (tiles & board.occupied()) == 0L;
+    }
 }
@@ -0,0 +1,31 @@
+package org.chess4j.pieces;
+
+/**
+ * Base class of all pieces that implements the value semantics specified by
+ * {@link Piece#equals(Object)} and {@link Piece#hashCode()}.
+ */
+abstract class AbstractPiece implements Piece {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Piece)) {
+            return false;
+        }
+        Piece other = (Piece) o;
+        return color() == other.color() && type() == other.type();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int hashCode() {
+        return code();
+    }
+}
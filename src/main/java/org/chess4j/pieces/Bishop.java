@@ -9,11 +9,10 @@ import org.chess4j.Tile;
  * A bishop is a chess piece that can move in diagonal lines. Therefore each
  * bishop can only move over one tile color for an entire game. The class offers
  * two static factory methods {@link #white()} and {@link #black()} for
- * constructing a bishop. Once created a bishop is immutable and stateless. Also
- * note that no two bishop are equal as the class does not overwrite
- * {@link #hashCode()} nor {@link #equals(Object)}.
+ * constructing a bishop. Once created a bishop is immutable and stateless. Two
+ * bishops of the same color are equal, see {@link Piece#equals(Object)}.
  */
-public final class Bishop implements Piece {
+public final class Bishop extends AbstractPiece {
 
     /**
      * The color of the bishop.
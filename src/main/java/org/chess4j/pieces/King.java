@@ -12,10 +12,10 @@ import org.chess4j.moves.Rochade;
  * only move one tile at a time with the exception of a {@link Rochade} move.
  * The class offers two static factory methods {@link #white()} and
  * {@link #black()} for constructing a king. Once created a king is immutable
- * and stateless. Also note that no two king are equal as the class does not
- * overwrite {@link #hashCode()} nor {@link #equals(Object)}.
+ * and stateless. Two kings of the same color are equal, see
+ * {@link Piece#equals(Object)}.
  */
-public final class King implements Piece {
+public final class King extends AbstractPiece {
 
     /**
      * The color of the piece.
@@ -9,10 +9,9 @@ import org.chess4j.Tile;
  * The Knight is the only Piece that can jump over other pieces on its path. The
  * class offers two static factory methods {@link #white()} and {@link #black()}
  * for constructing a knight. Once created a knight is immutable and stateless.
- * Also note that no two knight are equal as the class does not overwrite
- * {@link #hashCode()} nor {@link #equals(Object)}.
+ * Two knights of the same color are equal, see {@link Piece#equals(Object)}.
  */
-public final class Knight implements Piece {
+public final class Knight extends AbstractPiece {
 
     /**
      * The color of the knight
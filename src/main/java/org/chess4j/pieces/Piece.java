@@ -8,13 +8,21 @@ import org.chess4j.Tile;
 
 /**
  * A piece consists of a color, a type. Depending on the type different moves
- * are valid given a start and end position. As a chess game consists of many
- * distinct pieces of equal color and type no two pieces are equal. This is
- * reflected by the fact, that implementations of this class should <b>not</b> override
- * {@link #hashCode()} or {@link #equals(Object)}.
+ * are valid given a start and end position. A piece is a value: two pieces are
+ * equal if they have the same color and type, regardless of their identity.
+ * The combination of color and type is also available as a small integer
+ * through {@link #code()}, which is what boards use as the canonical content
+ * of a tile. Every implementation must implement {@link #equals(Object)} and
+ * {@link #hashCode()} by color and type as specified below, as boards compare
+ * and hash their pieces by value.
  */
 public interface Piece {
 
+    /**
+     * The number of piece types.
+     */
+    int TYPES = Type.values().length;
+
     /**
      * Get the type of the piece
      *
@@ -29,6 +37,63 @@ public interface Piece {
      */
     Color color();
 
+    /**
+     * Returns the code of the piece, which is a number between 0 and 11 that is
+     * unique for each combination of color and type, see
+     * {@link #code(Color, Type)}.
+     *
+     * @return the code of the piece.
+     */
+    default int code() {
+        return code(color(), type());
+    }
+
+    /**
+     * Returns the code of a piece of the given color and type. The code equals
+     * the ordinal of the color times the number of types plus the ordinal of the
+     * type.
+     *
+     * @param color the color of the piece.
+     * @param type  the type of the piece.
+     * @return the code of such a piece.
+     */
+    public static int code(Color color, Type type) {
+        return color.ordinal() * TYPES + type.ordinal();
+    }
+
+    /**
+     * Returns a new piece with the given code.
+     *
+     * @param code the code of the piece.
+     * @return a new piece of the color and type of the code.
+     * @throws ArrayIndexOutOfBoundsException if the code is not between 0 and 11.
+     */
+    public static Piece ofCode(int code) {
+        return of(Color.values()[code / TYPES], Type.values()[code % TYPES]);
+    }
+
+    /**
+     * Two pieces are equal if they have the same color and type. An
+     * implementation must return {@code true} for every piece of equal color
+     * and type, whatever its class, and {@code false} for every other object.
+     *
+     * @param o the object to compare with.
+     * @return {@code true} if the given object is a piece of the same color and
+     *         type.
+     */
+    @Override
+    boolean equals(Object o);
+
+    /**
+     * The hash code of a piece is its {@link #code()}. An implementation must
+     * return the code, so that equal pieces of different classes have equal hash
+     * codes.
+     *
+     * @return the hash code of the piece.
+     */
+    @Override
+    int hashCode();
+
     /**
      * Determines if the move is valid for the piece. Note that the piece has no
      * knowledge of the surrounding pieces on a board and therefore can make no
@@ -41,6 +106,34 @@ public interface Piece {
      */
     boolean isValid(Tile start, Tile end);
 
+    /**
+     * Static factory that returns a new piece of the given color and type.
+     *
+     * @param color the color of the piece.
+     * @param type  the type of the piece.
+     * @return a new piece of the given color and type.
+     */
+    public static Piece of(Color color, Type type) {
+        Objects.requireNonNull(color);
+        boolean isWhite = color == Color.WHITE;
+        switch (type) {
+        case PAWN:
+            return isWhite ? Pawn.white() : Pawn.black();
+        case ROOK:
+            return isWhite ? Rook.white() : Rook.black();
+        case KNIGHT:
+            return isWhite ? Knight.white() : Knight.black();
+        case BISHOP:
+            return isWhite ? Bishop.white() : Bishop.black();
+        case QUEEN:
+            return isWhite ? Queen.white() : Queen.black();
+        case KING:
+            return isWhite ? King.white() : King.black();
+        default:
+            throw new IllegalArgumentException("Unknown type " + type);
+        }
+    }
+
     /**
      * Returns {@code true} if the given piece is of type {@link Type#ROOK}. This
      * method returns false for null values.
@@ -9,10 +9,10 @@ import org.chess4j.Tile;
  * A queen is a chess piece that can move in diagonal lines or straight lines.
  * The class offers two static factory methods {@link #white()} and
  * {@link #black()} for constructing a queen. Once created a queen is immutable
- * and stateless. Also note that no two queen are equal as the class does not
- * overwrite {@link #hashCode()} nor {@link #equals(Object)}.
+ * and stateless. Two queens of the same color are equal, see
+ * {@link Piece#equals(Object)}.
  */
-public final class Queen implements Piece {
+public final class Queen extends AbstractPiece {
 
     /**
      * The color of the queen.
@@ -8,11 +8,10 @@ import org.chess4j.Tile;
 /**
  * A rook is a chess piece that can move only in straight lines. The class
  * offers two static factory methods {@link #white()} and {@link #black()} for
- * constructing a rook. Once created a rook is immutable and stateless. Also
- * note that no two rook are equal as the class does not overwrite
- * {@link #hashCode()} nor {@link #equals(Object)}.
+ * constructing a rook. Once created a rook is immutable and stateless. Two
+ * rooks of the same color are equal, see {@link Piece#equals(Object)}.
  */
-public final class Rook implements Piece {
+public final class Rook extends AbstractPiece {
 
     /**
      * The color of the rook.
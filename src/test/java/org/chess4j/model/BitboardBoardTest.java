@@ -0,0 +1,91 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.chess4j.BitboardBoard;
+import org.chess4j.Board;
+import org.chess4j.EnumMapBoard;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.pieces.Pawn;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+import org.chess4j.pieces.Rook;
+import org.junit.jupiter.api.Test;
+
+class BitboardBoardTest {
+
+    @Test
+    void putAndRemove() {
+        Board board = new BitboardBoard();
+        Piece rook = Rook.white();
+        Piece pawn = Pawn.black();
+        assertNull(board.put(Tile.a1, rook));
+        assertSame(rook, board.put(Tile.a1, pawn));
+        assertEquals(1, board.size());
+        assertSame(pawn, board.get(Tile.a1));
+        assertSame(pawn, board.remove(Tile.a1));
+        assertFalse(board.containsKey(Tile.a1));
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    void equalToEnumMapBoard() {
+        Board board = Board.newGame();
+        assertEquals(new EnumMapBoard(board), board);
+        assertEquals(board, new EnumMapBoard(board));
+        assertEquals(32, board.size());
+    }
+
+    @Test
+    void iteratesInTileOrder() {
+        Board board = new BitboardBoard();
+        board.put(Tile.h1, Rook.white());
+        board.put(Tile.a8, Rook.black());
+        board.put(Tile.e4, Pawn.white());
+        List<Tile> tiles = new ArrayList<>(board.keySet());
+        assertEquals(List.of(Tile.a8, Tile.e4, Tile.h1), tiles);
+    }
+
+    @Test
+    void copyIsIndependentAndUnmodifiable() {
+        Board board = Board.newGame();
+        Board copy = Board.copy(board);
+        board.remove(Tile.e2);
+        assertEquals(32, copy.size());
+        assertTrue(copy.containsKey(Tile.e2));
+        assertThrows(UnsupportedOperationException.class, () -> copy.put(Tile.e4, Pawn.white()));
+        assertThrows(UnsupportedOperationException.class, () -> copy.remove(Tile.e2));
+        assertThrows(UnsupportedOperationException.class, copy::clear);
+    }
+
+    @Test
+    void indexesMatchMappings() {
+        Board board = Board.newGame();
+        board.put(Tile.e4, board.remove(Tile.e2));
+        board.remove(Tile.d8);
+        Board reference = new EnumMapBoard(board);
+        assertEquals(reference.occupied(), board.occupied());
+        for (Color color : Color.values()) {
+            assertEquals(reference.occupied(color), board.occupied(color));
+            assertEquals(reference.kingPosition(color), board.kingPosition(color));
+            for (Type type : Type.values()) {
+                assertEquals(reference.pieces(color, type), board.pieces(color, type));
+                assertEquals(reference.count(color, type), board.count(color, type));
+            }
+        }
+        assertEquals(Tile.e1, board.kingPosition(Color.WHITE));
+        assertEquals(0, board.count(Color.BLACK, Type.QUEEN));
+        assertEquals(8, board.count(Color.WHITE, Type.PAWN));
+        board.remove(Tile.e8);
+        assertNull(board.kingPosition(Color.BLACK));
+    }
+}
@@ -1,7 +1,11 @@
 package org.chess4j.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.chess4j.Board;
 import org.chess4j.EnumMapBoard;
@@ -42,4 +46,66 @@ public class BoardTest {
         assertEquals(15, subBoardBoard.size());
     }
 
+    @Test
+    void subBoardKeyedAccess() {
+        Board board = Board.newGame();
+        Board subBoard = board.filter(Piece.isOfColor(Color.WHITE));
+        assertTrue(subBoard.containsKey(Tile.e2));
+        assertFalse(subBoard.containsKey(Tile.e7));
+        assertNull(subBoard.get(Tile.e7));
+        board.put(Tile.e7, Pawn.white());
+        assertTrue(subBoard.containsKey(Tile.e7));
+        assertEquals(17, subBoard.size());
+    }
+
+    @Test
+    void copyOfCopyIsShared() {
+        Board copy = Board.copy(Board.newGame());
+        assertSame(copy, Board.copy(copy));
+        assertSame(copy, Board.unmodifiable(copy));
+    }
+
+    @Test
+    void unmodifiableViewReflectsChanges() {
+        Board board = Board.newGame();
+        Board view = Board.unmodifiable(board);
+        board.put(Tile.e4, board.remove(Tile.e2));
+        assertFalse(view.containsKey(Tile.e2));
+        assertTrue(view.containsKey(Tile.e4));
+        assertEquals(32, view.size());
+    }
+
+    @Test
+    void boardsCompareByContent() {
+        Board first = Board.newGame();
+        Board second = Board.newGame();
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(new EnumMapBoard(first), second);
+        assertEquals(Pawn.white(), Pawn.white());
+        assertEquals(Piece.code(Color.BLACK, Piece.Type.KING), Piece.ofCode(11).code());
+
+        second.put(Tile.e2, Piece.of(Color.WHITE, Piece.Type.QUEEN));
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    void attackQueries() {
+        Board board = Board.newGame();
+        assertTrue(board.isAttacked(Tile.f3, Color.WHITE));
+        assertTrue(board.isAttacked(Tile.d3, Color.WHITE));
+        assertFalse(board.isAttacked(Tile.e4, Color.WHITE));
+        assertFalse(board.isAttacked(Tile.e3, Color.BLACK));
+        assertEquals(Tile.e2.mask() | Tile.g2.mask() | Tile.g1.mask(), board.attackers(Tile.f3));
+
+        board.remove(Tile.e7);
+        board.put(Tile.h4, board.remove(Tile.d8));
+        board.remove(Tile.f2);
+        assertTrue(board.isAttacked(Tile.e1, Color.BLACK));
+        assertEquals(Tile.h4.mask() | Tile.d1.mask(), board.attackers(Tile.e1));
+        board.put(Tile.g3, Pawn.white());
+        assertFalse(board.isAttacked(Tile.e1, Color.BLACK));
+        assertTrue(board.isAttacked(Tile.e7, Color.BLACK));
+        assertFalse(board.isAttacked(Tile.b5, Color.BLACK));
+    }
 }
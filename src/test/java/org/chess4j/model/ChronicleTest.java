@@ -0,0 +1,104 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.chess4j.Board;
+import org.chess4j.Chronicle;
+import org.chess4j.MutablePosition;
+import org.chess4j.PersistentBoard;
+import org.chess4j.Tile;
+import org.chess4j.moves.EncodedMove;
+import org.chess4j.moves.Move;
+import org.chess4j.moves.MoveGenerator;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.PackedMove;
+import org.chess4j.pieces.Piece.Type;
+import org.junit.jupiter.api.Test;
+
+class ChronicleTest {
+
+    /*
+     * Plays a random game on both chronicles.
+     */
+    private static void playRandomGame(Chronicle regular, Chronicle compact, long seed, int plies) {
+        Random random = new Random(seed);
+        MoveList moves = new MoveList();
+        for (int ply = 0; ply < plies; ply++) {
+            MutablePosition position = regular.position();
+            moves.clear();
+            MoveGenerator.legalMoves(position, moves);
+            if (moves.isEmpty()) {
+                return;
+            }
+            Move move = EncodedMove.of(moves.get(random.nextInt(moves.size())), position);
+            regular.add(move);
+            compact.add(move);
+        }
+    }
+
+    private static void assertSameHistory(Chronicle expected, Chronicle actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Move move = expected.get(i);
+            Move view = actual.get(i);
+            assertEquals(move.start(), view.start());
+            assertEquals(move.end(), view.end());
+            assertEquals(move.kind(), view.kind());
+            assertEquals(move.initial(), view.initial(), "before ply " + i);
+            assertEquals(move.result(), view.result(), "after ply " + i);
+            assertEquals(move.captured(), view.captured());
+            assertEquals(PackedMove.of(move), PackedMove.of(view));
+        }
+        assertEquals(expected.current(), actual.current());
+        assertEquals(expected.positionKey(), actual.positionKey());
+        assertEquals(expected.castlingRights(), actual.castlingRights());
+        assertEquals(expected.halfmoveClock(), actual.halfmoveClock());
+        assertEquals(expected.sideToMove(), actual.sideToMove());
+    }
+
+    @Test
+    void compactMatchesRegular() {
+        for (int seed = 0; seed < 5; seed++) {
+            Chronicle regular = new Chronicle(Board.newGame());
+            Chronicle compact = new Chronicle(Board.newGame(), 8);
+            playRandomGame(regular, compact, seed, 150);
+            assertSameHistory(regular, compact);
+
+            for (int i = 0; i < 9 && !regular.isEmpty(); i++) {
+                assertEquals(regular.revert().result(), compact.revert().result());
+            }
+            assertSameHistory(regular, compact);
+            playRandomGame(regular, compact, seed + 100, 20);
+            assertSameHistory(regular, compact);
+        }
+    }
+
+    @Test
+    void compactKeepsPromotions() {
+        Chronicle compact = new Chronicle(Board.newGame(), 1);
+        MutablePosition position = compact.position();
+        int[] moves = { PackedMove.of(Tile.b2, Tile.b4, Move.Kind.PAWN_LEAP),
+                PackedMove.of(Tile.a7, Tile.a5, Move.Kind.PAWN_LEAP),
+                PackedMove.of(Tile.b4, Tile.a5, Move.Kind.PAWN_MOVE),
+                PackedMove.of(Tile.h7, Tile.h6, Move.Kind.PAWN_MOVE),
+                PackedMove.of(Tile.a5, Tile.a6, Move.Kind.PAWN_MOVE),
+                PackedMove.of(Tile.h6, Tile.h5, Move.Kind.PAWN_MOVE),
+                PackedMove.of(Tile.a6, Tile.b7, Move.Kind.PAWN_MOVE),
+                PackedMove.of(Tile.h5, Tile.h4, Move.Kind.PAWN_MOVE),
+                PackedMove.of(Tile.b7, Tile.a8, Move.Kind.PAWN_MOVE, Type.KNIGHT),
+                PackedMove.of(Tile.h4, Tile.h3, Move.Kind.PAWN_MOVE) };
+        for (int move : moves) {
+            compact.add(EncodedMove.of(move, position));
+        }
+        assertEquals(Type.KNIGHT, compact.get(8).result().get(Tile.a8).type());
+        assertEquals(Type.ROOK, compact.get(3).result().get(Tile.a8).type());
+        assertEquals(moves[8], PackedMove.of(compact.get(8)));
+        assertEquals(0, position.depth());
+        assertTrue(compact.get(4).initial() instanceof PersistentBoard);
+        assertThrows(IllegalArgumentException.class, () -> new Chronicle(Board.newGame(), 0));
+    }
+}
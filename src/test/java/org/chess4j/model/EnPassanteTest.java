@@ -3,6 +3,7 @@ package org.chess4j.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.chess4j.Board;
@@ -12,6 +13,7 @@ import org.chess4j.Tile;
 import org.chess4j.moves.EnPassante;
 import org.chess4j.moves.Move;
 import org.chess4j.moves.PawnLeap;
+import org.chess4j.moves.PawnMove;
 import org.chess4j.moves.SimpleMove;
 import org.chess4j.pieces.Bishop;
 import org.chess4j.pieces.Pawn;
@@ -74,4 +76,20 @@ class EnPassanteTest {
         assertEquals(black, enPassante.captured().get());
     }
 
+    @Test
+    void enPassantTargetExpiresAfterOneMove() {
+        Board board = new EnumMapBoard();
+        board.put(Tile.e2, Pawn.white());
+        board.put(Tile.f4, Pawn.black());
+        board.put(Tile.a7, Pawn.black());
+        Chronicle game = new Chronicle(board);
+        game.add(PawnLeap.perform(Tile.e2, Tile.e4, board));
+        assertEquals(Tile.e3, game.enPassant());
+        game.add(PawnMove.perform(Tile.a7, Tile.a6, game.current()));
+        assertNull(game.enPassant());
+        assertFalse(EnPassante.isValid(Tile.f4, Tile.e3, game));
+        game.revert();
+        assertEquals(Tile.e3, game.enPassant());
+        assertTrue(EnPassante.isValid(Tile.f4, Tile.e3, game));
+    }
 }
@@ -0,0 +1,52 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.chess4j.KeyCounter;
+import org.junit.jupiter.api.Test;
+
+class KeyCounterTest {
+
+    @Test
+    void countsUpAndDown() {
+        KeyCounter counter = new KeyCounter();
+        assertEquals(0, counter.count(42L));
+        assertEquals(1, counter.increment(42L));
+        assertEquals(2, counter.increment(42L));
+        assertEquals(1, counter.increment(0L));
+        assertEquals(2, counter.size());
+        assertEquals(1, counter.decrement(42L));
+        assertEquals(0, counter.decrement(42L));
+        assertEquals(0, counter.decrement(42L));
+        assertEquals(1, counter.size());
+        assertEquals(1, counter.count(0L));
+        counter.clear();
+        assertEquals(0, counter.count(0L));
+    }
+
+    @Test
+    void matchesHashMap() {
+        KeyCounter counter = new KeyCounter();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            // Few distinct keys, so that many removals shift colliding keys back.
+            long key = random.nextInt(500) * 0x100000000L;
+            if (random.nextBoolean()) {
+                counter.increment(key);
+                expected.merge(key, 1, Integer::sum);
+            } else {
+                counter.decrement(key);
+                expected.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+            }
+        }
+        assertEquals(expected.size(), counter.size());
+        for (long key = 0; key < 500; key++) {
+            assertEquals(expected.getOrDefault(key * 0x100000000L, 0), counter.count(key * 0x100000000L));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.chess4j.Bitboards;
+import org.chess4j.Magics;
+import org.chess4j.Tile;
+import org.junit.jupiter.api.Test;
+
+class MagicsTest {
+
+    @Test
+    void tablesMatchPieceSemantics() {
+        Magics.verify();
+    }
+
+    @Test
+    void attacksStopAtBlockers() {
+        long occupied = Tile.d6.mask() | Tile.f4.mask() | Tile.b2.mask() | Tile.g7.mask();
+        long rook = Tile.d5.mask() | Tile.d6.mask() | Tile.d3.mask() | Tile.d2.mask() | Tile.d1.mask()
+                | Tile.a4.mask() | Tile.b4.mask() | Tile.c4.mask() | Tile.e4.mask() | Tile.f4.mask();
+        assertEquals(rook, Bitboards.rookAttacks(Tile.d4.ordinal(), occupied));
+        long bishop = Tile.c3.mask() | Tile.b2.mask() | Tile.e5.mask() | Tile.f6.mask() | Tile.g7.mask()
+                | Tile.c5.mask() | Tile.b6.mask() | Tile.a7.mask() | Tile.e3.mask() | Tile.f2.mask() | Tile.g1.mask();
+        assertEquals(bishop, Bitboards.bishopAttacks(Tile.d4.ordinal(), occupied));
+        assertEquals(rook | bishop, Bitboards.queenAttacks(Tile.d4.ordinal(), occupied));
+    }
+}
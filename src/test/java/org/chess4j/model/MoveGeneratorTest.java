@@ -0,0 +1,200 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.chess4j.Board;
+import org.chess4j.Chronicle;
+import org.chess4j.EnumMapBoard;
+import org.chess4j.MutablePosition;
+import org.chess4j.Player;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.MoveGenerator;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.MovePicker;
+import org.chess4j.moves.PackedMove;
+import org.chess4j.moves.Rochade;
+import org.chess4j.pieces.Bishop;
+import org.chess4j.pieces.King;
+import org.chess4j.pieces.Pawn;
+import org.chess4j.pieces.Piece.Type;
+import org.chess4j.pieces.Rook;
+import org.junit.jupiter.api.Test;
+
+class MoveGeneratorTest {
+
+    @Test
+    void startPosition() {
+        MutablePosition position = new MutablePosition(Board.newGame(), Color.WHITE, 15, null);
+        MoveList moves = new MoveList();
+        MoveGenerator.legalMoves(position, moves);
+        assertEquals(20, moves.size());
+        assertTrue(moves.contains(PackedMove.of(Tile.e2, Tile.e4, Kind.PAWN_LEAP)));
+        assertTrue(moves.contains(PackedMove.of(Tile.g1, Tile.f3, Kind.SIMPLE)));
+        assertEquals(Board.newGame(), position.board());
+    }
+
+    @Test
+    void matchesPlayerValidation() {
+        Chronicle chronicle = new Chronicle(Board.newGame());
+        Tile[] game = { Tile.e2, Tile.e4, Tile.d7, Tile.d5, Tile.e4, Tile.e5, Tile.f7, Tile.f5, Tile.g1, Tile.f3,
+                Tile.b8, Tile.c6, Tile.f1, Tile.b5, Tile.c8, Tile.d7 };
+        Player[] players = { Player.white(chronicle), Player.black(chronicle) };
+        for (int i = 0; i < game.length; i += 2) {
+            Player player = players[i / 2 % 2];
+            player.move(game[i], game[i + 1]);
+            for (Player each : players) {
+                MoveList moves = new MoveList();
+                MoveGenerator.legalMoves(chronicle.position(), each.getColor(), -1L, moves);
+                int valid = 0;
+                for (Tile start : Tile.values()) {
+                    for (Tile end : Tile.values()) {
+                        if (each.isValid(start, end)) {
+                            valid++;
+                            assertTrue(containsMove(moves, start, end), start + "" + end);
+                        }
+                    }
+                }
+                assertEquals(valid, moves.size());
+            }
+        }
+    }
+
+    @Test
+    void specialMoves() {
+        Board board = new EnumMapBoard();
+        board.put(Tile.e1, King.white());
+        board.put(Tile.h1, Rook.white());
+        board.put(Tile.a1, Rook.white());
+        board.put(Tile.e8, King.black());
+        board.put(Tile.b7, Pawn.white());
+        board.put(Tile.e5, Pawn.white());
+        board.put(Tile.d5, Pawn.black());
+        board.put(Tile.b5, Bishop.black());
+        MutablePosition position = new MutablePosition(board, Color.WHITE,
+                Rochade.WHITE_SHORT | Rochade.WHITE_LONG, Tile.d6);
+        MoveList moves = new MoveList();
+        MoveGenerator.legalMoves(position, moves);
+
+        assertTrue(moves.contains(PackedMove.of(Tile.e5, Tile.d6, Kind.EN_PASSANTE)));
+        for (Type type : new Type[] { Type.QUEEN, Type.ROOK, Type.BISHOP, Type.KNIGHT }) {
+            assertTrue(moves.contains(PackedMove.of(Tile.b7, Tile.b8, Kind.PAWN_MOVE, type)));
+        }
+        assertTrue(moves.contains(PackedMove.of(Tile.e1, Tile.c1, Kind.ROCHADE)));
+        // The king would pass f1, which the bishop attacks.
+        assertFalse(moves.contains(PackedMove.of(Tile.e1, Tile.g1, Kind.ROCHADE)));
+        assertFalse(moves.contains(PackedMove.of(Tile.e1, Tile.f1, Kind.SIMPLE)));
+    }
+
+    @Test
+    void matchesMakeAndTest() {
+        Random random = new Random(42);
+        for (int game = 0; game < 20; game++) {
+            MutablePosition position = new MutablePosition(Board.newGame(), Color.WHITE, 15, null);
+            for (int ply = 0; ply < 120; ply++) {
+                Color color = position.sideToMove();
+                MoveList legal = new MoveList();
+                MoveGenerator.legalMoves(position, legal);
+                MoveList pseudo = new MoveList();
+                MoveGenerator.pseudoLegalMoves(position, color, -1L, pseudo);
+                int expected = 0;
+                for (int i = 0; i < pseudo.size(); i++) {
+                    int move = pseudo.get(i);
+                    position.makeMove(move);
+                    boolean inCheck = position.inCheck(color);
+                    position.unmakeMove();
+                    if (!inCheck) {
+                        expected++;
+                        assertTrue(legal.contains(move), PackedMove.toString(move));
+                    } else if (PackedMove.kind(move) != Kind.ROCHADE) {
+                        assertFalse(legal.contains(move), PackedMove.toString(move));
+                    }
+                }
+                assertEquals(expected, legal.size());
+                MoveList stages = new MoveList();
+                MoveGenerator.legalCaptures(position, color, -1L, stages);
+                MoveGenerator.legalQuiets(position, color, -1L, stages);
+                assertEquals(legal.size(), stages.size());
+                for (int i = 0; i < stages.size(); i++) {
+                    assertTrue(legal.contains(stages.get(i)));
+                }
+                if (legal.isEmpty()) {
+                    break;
+                }
+                position.makeMove(legal.get(random.nextInt(legal.size())));
+            }
+        }
+    }
+
+    @Test
+    void pinsAndChecks() {
+        Board board = new EnumMapBoard();
+        board.put(Tile.e1, King.white());
+        board.put(Tile.e2, Rook.white());
+        board.put(Tile.d2, Bishop.white());
+        board.put(Tile.e8, Rook.black());
+        board.put(Tile.a5, Bishop.black());
+        board.put(Tile.h8, King.black());
+        MutablePosition position = new MutablePosition(board, Color.WHITE, 0, null);
+        MoveList moves = new MoveList();
+        MoveGenerator.legalMoves(position, moves);
+        // The rook is pinned to its file and the bishop to its diagonal.
+        assertTrue(moves.contains(PackedMove.of(Tile.e2, Tile.e8, Kind.SIMPLE)));
+        assertFalse(moves.contains(PackedMove.of(Tile.e2, Tile.d2, Kind.SIMPLE)));
+        assertTrue(moves.contains(PackedMove.of(Tile.d2, Tile.a5, Kind.SIMPLE)));
+        assertFalse(moves.contains(PackedMove.of(Tile.d2, Tile.e3, Kind.SIMPLE)));
+
+        board.remove(Tile.e2);
+        position = new MutablePosition(board, Color.WHITE, 0, null);
+        moves.clear();
+        MoveGenerator.legalMoves(position, moves);
+        // In check the pinned bishop cannot block, and the king cannot step back
+        // along the file of the rook.
+        assertFalse(moves.contains(PackedMove.of(Tile.d2, Tile.e3, Kind.SIMPLE)));
+        assertFalse(moves.contains(PackedMove.of(Tile.e1, Tile.e2, Kind.SIMPLE)));
+        assertEquals(3, moves.size());
+    }
+
+    @Test
+    void pickerHandsOutStages() {
+        MutablePosition position = MutablePosition
+                .ofFen("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        MoveList legal = new MoveList();
+        MoveGenerator.legalMoves(position, legal);
+        int preferred = PackedMove.of(Tile.e1, Tile.g1, Kind.ROCHADE);
+
+        MovePicker picker = new MovePicker(position);
+        picker.reset(preferred);
+        assertEquals(preferred, picker.next());
+        // The bishop on a6 is taken first by the less valuable attacker.
+        assertEquals(PackedMove.of(Tile.e2, Tile.a6, Kind.SIMPLE), picker.next());
+        assertEquals(PackedMove.of(Tile.f3, Tile.f6, Kind.SIMPLE), picker.next());
+        MoveList picked = new MoveList();
+        for (int move = picker.next(); move != PackedMove.NONE; move = picker.next()) {
+            assertFalse(picked.contains(move), PackedMove.toString(move));
+            assertTrue(legal.contains(move), PackedMove.toString(move));
+            picked.add(move);
+        }
+        assertEquals(legal.size() - 3, picked.size());
+        assertFalse(picked.contains(preferred));
+        assertEquals(PackedMove.NONE, picker.next());
+
+        // An illegal preferred move is skipped.
+        picker.reset(PackedMove.of(Tile.e1, Tile.e3, Kind.SIMPLE));
+        assertEquals(PackedMove.of(Tile.e2, Tile.a6, Kind.SIMPLE), picker.next());
+    }
+
+    private static boolean containsMove(MoveList moves, Tile start, Tile end) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (PackedMove.start(moves.get(i)) == start && PackedMove.end(moves.get(i)) == end) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.chess4j.Board;
+import org.chess4j.Chronicle;
+import org.chess4j.MutablePosition;
+import org.chess4j.Player;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.moves.Move;
+import org.chess4j.moves.Rochade;
+import org.chess4j.pieces.Piece;
+import org.junit.jupiter.api.Test;
+
+class MutablePositionTest {
+
+    @Test
+    void makeMatchesChronicle() {
+        Chronicle chronicle = new Chronicle(Board.newGame());
+        MutablePosition position = MutablePosition.of(chronicle);
+        Player.white(chronicle).move(Tile.e2, Tile.e4);
+        Player.black(chronicle).move(Tile.g8, Tile.f6);
+        Player.white(chronicle).move(Tile.e4, Tile.e5);
+        Player.black(chronicle).move(Tile.d7, Tile.d5);
+        Player.white(chronicle).move(Tile.e5, Tile.d6);
+        for (Move move : chronicle) {
+            position.makeMove(move);
+        }
+        assertEquals(chronicle.current(), position.board());
+        assertEquals(Color.BLACK, position.sideToMove());
+        assertEquals(chronicle.positionKey(), position.key());
+        assertEquals(chronicle.current(), chronicle.position().board());
+    }
+
+    @Test
+    void unmakeRestoresPosition() {
+        Chronicle chronicle = new Chronicle(Board.newGame());
+        Player.white(chronicle).move(Tile.e2, Tile.e4);
+        Player.black(chronicle).move(Tile.d7, Tile.d5);
+        MutablePosition position = MutablePosition.of(chronicle);
+        Board before = Board.copy(position.board());
+        long key = position.key();
+
+        position.makeMove(Tile.e4, Tile.d5, Move.Kind.PAWN_MOVE);
+        assertEquals(31, position.board().size());
+        position.makeMove(Tile.d8, Tile.d5, Move.Kind.SIMPLE);
+        assertEquals(2, position.depth());
+        position.unmakeMove();
+        position.unmakeMove();
+
+        assertEquals(before, position.board());
+        assertEquals(key, position.key());
+        assertEquals(Color.WHITE, position.sideToMove());
+        assertEquals(Tile.d6, position.enPassant());
+        assertThrows(IllegalStateException.class, position::unmakeMove);
+    }
+
+    @Test
+    void rochadeRemovesCastlingRights() {
+        Board board = Board.newGame();
+        board.remove(Tile.f1);
+        board.remove(Tile.g1);
+        int rights = Rochade.WHITE_SHORT | Rochade.WHITE_LONG | Rochade.BLACK_SHORT | Rochade.BLACK_LONG;
+        MutablePosition position = new MutablePosition(board, Color.WHITE, rights, null);
+
+        position.makeMove(Tile.e1, Tile.g1, Move.Kind.ROCHADE);
+        assertEquals(Rochade.BLACK_SHORT | Rochade.BLACK_LONG, position.castlingRights());
+        assertNull(position.board().get(Tile.h1));
+        assertTrue(Piece.isRook(position.board().get(Tile.f1)));
+        assertTrue(Piece.isKing(position.board().get(Tile.g1)));
+
+        position.unmakeMove();
+        assertEquals(rights, position.castlingRights());
+        assertEquals(board, position.board());
+    }
+}
@@ -0,0 +1,93 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.chess4j.Board;
+import org.chess4j.Chronicle;
+import org.chess4j.MutablePosition;
+import org.chess4j.Player;
+import org.chess4j.Tile;
+import org.chess4j.moves.EncodedMove;
+import org.chess4j.moves.Move;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.MoveList;
+import org.chess4j.moves.PackedMove;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+import org.junit.jupiter.api.Test;
+
+class PackedMoveTest {
+
+    @Test
+    void encodeAndDecode() {
+        for (Tile start : Tile.values()) {
+            for (Kind kind : Kind.values()) {
+                int move = PackedMove.of(start, Tile.h1, kind, Type.KNIGHT);
+                assertEquals(start, PackedMove.start(move));
+                assertEquals(Tile.h1, PackedMove.end(move));
+                assertEquals(kind, PackedMove.kind(move));
+                assertEquals(Type.KNIGHT, PackedMove.promotion(move));
+            }
+        }
+        int move = PackedMove.of(Tile.e2, Tile.e4, Kind.PAWN_LEAP);
+        assertNull(PackedMove.promotion(move));
+        assertEquals("e2e4", PackedMove.toString(move));
+        assertEquals("e2e4q", PackedMove.toString(PackedMove.withPromotion(move, Type.QUEEN)));
+    }
+
+    @Test
+    void moveListGrowsAndClears() {
+        MoveList moves = new MoveList(2);
+        for (int i = 0; i < 5; i++) {
+            moves.add(PackedMove.of(i, i + 8, 0));
+        }
+        assertEquals(5, moves.size());
+        assertEquals(Tile.a8, PackedMove.start(moves.get(0)));
+        moves.swap(0, 4);
+        assertEquals(Tile.e8, PackedMove.start(moves.get(0)));
+        assertTrue(moves.contains(PackedMove.of(Tile.b8, Tile.b7, Kind.SIMPLE)));
+        assertThrows(IndexOutOfBoundsException.class, () -> moves.get(5));
+        moves.clear();
+        assertTrue(moves.isEmpty());
+        assertFalse(moves.contains(PackedMove.of(Tile.b8, Tile.b7, Kind.SIMPLE)));
+    }
+
+    @Test
+    void encodedMoveMatchesMove() {
+        Chronicle chronicle = new Chronicle(Board.newGame());
+        Player.white(chronicle).move(Tile.e2, Tile.e4);
+        Player.black(chronicle).move(Tile.a7, Tile.a6);
+        Player.white(chronicle).move(Tile.e4, Tile.e5);
+        Player.black(chronicle).move(Tile.d7, Tile.d5);
+        MutablePosition position = chronicle.position();
+
+        Move move = EncodedMove.of(PackedMove.of(Tile.e5, Tile.d6, Kind.EN_PASSANTE), position);
+        Player.white(chronicle).move(Tile.e5, Tile.d6);
+        Move expected = chronicle.get(chronicle.size() - 1);
+
+        assertEquals(expected.initial(), move.initial());
+        assertEquals(expected.result(), move.result());
+        assertTrue(Piece.isPawn(move.captured().get()));
+        assertEquals(Kind.EN_PASSANTE, move.kind());
+        chronicle.revert();
+        chronicle.add(move);
+        assertEquals(expected.result(), chronicle.current());
+    }
+
+    @Test
+    void encodedPromotion() {
+        Board board = Board.newGame();
+        board.remove(Tile.a8);
+        board.remove(Tile.a7);
+        board.put(Tile.a7, board.remove(Tile.a2));
+        MutablePosition position = new MutablePosition(board, Player.Color.WHITE, 0, null);
+        Move move = EncodedMove.of(PackedMove.of(Tile.a7, Tile.a8, Kind.PAWN_MOVE, Type.QUEEN), position);
+        assertTrue(Piece.isQueen(move.result().get(Tile.a8)));
+        assertTrue(Piece.isPawn(move.moved()));
+        assertEquals(board, position.board());
+    }
+}
@@ -1,5 +1,6 @@
 package org.chess4j.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -10,7 +11,10 @@ import org.chess4j.Chronicle;
 import org.chess4j.EnumMapBoard;
 import org.chess4j.Tile;
 import org.chess4j.moves.PawnMove;
+import org.chess4j.pieces.Knight;
 import org.chess4j.pieces.Pawn;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
 import org.chess4j.pieces.Rook;
 import org.junit.jupiter.api.Test;
 
@@ -89,4 +93,20 @@ class PawnMoveTest {
         Chronicle game = new Chronicle(board);
         assertTrue(PawnMove.isValidCapture(Tile.e7, Tile.d6, game.current()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void promotionReplacesThePawn() {
+        Board board = new EnumMapBoard();
+        board.put(Tile.b7, Pawn.white());
+        board.put(Tile.a8, Rook.black());
+        assertNull(PawnMove.perform(Tile.b7, Tile.b8, board, Type.KING));
+        assertNull(PawnMove.perform(Tile.b7, Tile.c8, board, Type.QUEEN));
+        assertNull(PawnMove.perform(Tile.e2, Tile.e3, Board.newGame(), Type.QUEEN));
+
+        PawnMove move = (PawnMove) PawnMove.perform(Tile.b7, Tile.a8, board, Type.KNIGHT);
+        assertEquals(Type.KNIGHT, move.promotion());
+        assertEquals(Knight.white(), move.result().get(Tile.a8));
+        assertTrue(Piece.isPawn(move.initial().get(Tile.b7)));
+        assertNull(((PawnMove) PawnMove.perform(Tile.e2, Tile.e3, Board.newGame())).promotion());
+    }
+}
@@ -0,0 +1,128 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.chess4j.Board;
+import org.chess4j.MutablePosition;
+import org.chess4j.Perft;
+import org.chess4j.PerftTable;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.moves.Rochade;
+import org.junit.jupiter.api.Test;
+
+class PerftTest {
+
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+
+    private static final String POSITION_4_MIRRORED = "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1";
+
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+
+    @Test
+    void startPosition() {
+        assertPerft(START, 20L, 400L, 8902L, 197281L);
+    }
+
+    @Test
+    void kiwipete() {
+        assertPerft(KIWIPETE, 48L, 2039L, 97862L);
+    }
+
+    @Test
+    void endgame() {
+        assertPerft(POSITION_3, 14L, 191L, 2812L, 43238L);
+    }
+
+    @Test
+    void promotionsAndChecks() {
+        assertPerft(POSITION_4, 6L, 264L, 9467L);
+        assertPerft(POSITION_4_MIRRORED, 6L, 264L, 9467L);
+        assertPerft(POSITION_5, 44L, 1486L, 62379L);
+    }
+
+    @Test
+    void parallelMatchesSerial() {
+        MutablePosition position = MutablePosition.ofFen(KIWIPETE);
+        long key = position.key();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(97862L, Perft.perft(position, 3, pool));
+            assertEquals(4085603L, Perft.perft(position, 4, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(key, position.key());
+    }
+
+    @Test
+    void hashedMatchesSerial() {
+        PerftTable table = new PerftTable(1);
+        assertEquals(65536, table.capacity());
+        assertEquals(4085603L, Perft.perft(MutablePosition.ofFen(KIWIPETE), 4, table));
+        assertTrue(table.hits() > 0L);
+        assertEquals(43238L, Perft.perft(MutablePosition.ofFen(POSITION_3), 4, table));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            table.clear();
+            assertEquals(0.0, table.hitRate());
+            assertEquals(4085603L, Perft.perft(MutablePosition.ofFen(KIWIPETE), 4, pool, table));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void tableVerifiesKeyAndDepth() {
+        PerftTable table = new PerftTable(1);
+        table.store(42L, 3, 8902L);
+        assertEquals(8902L, table.probe(42L, 3));
+        assertEquals(-1L, table.probe(42L, 4));
+        assertEquals(-1L, table.probe(42L + table.capacity(), 3));
+        assertEquals(1L, table.hits());
+        assertEquals(3L, table.probes());
+        assertThrows(IllegalArgumentException.class, () -> new PerftTable(0));
+    }
+
+    @Test
+    void divideSumsToPerft() {
+        Map<String, Long> divide = Perft.divide(MutablePosition.ofFen(KIWIPETE), 2);
+        assertEquals(48, divide.size());
+        assertEquals(43L, divide.get("e1g1"));
+        assertEquals(2039L, divide.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void parseFen() {
+        MutablePosition position = MutablePosition.ofFen("rnbqkbnr/pppp1ppp/8/8/3pP3/8/PPP2PPP/RNBQKBNR b Kq e3");
+        assertEquals(Color.BLACK, position.sideToMove());
+        assertEquals(Rochade.WHITE_SHORT | Rochade.BLACK_LONG, position.castlingRights());
+        assertEquals(Tile.e3, position.enPassant());
+        assertEquals(Board.newGame(), MutablePosition.ofFen(START).board());
+        assertThrows(IllegalArgumentException.class, () -> MutablePosition.ofFen("8/8/8 w - -"));
+        assertThrows(IllegalArgumentException.class, () -> MutablePosition.ofFen(START.replace(" w ", " x ")));
+        assertThrows(IllegalArgumentException.class, () -> MutablePosition.ofFen(START.replace("KQkq", "KX")));
+    }
+
+    private static void assertPerft(String fen, long... nodes) {
+        MutablePosition position = MutablePosition.ofFen(fen);
+        long key = position.key();
+        for (int depth = 1; depth <= nodes.length; depth++) {
+            assertEquals(nodes[depth - 1], Perft.perft(position, depth), fen + " at depth " + depth);
+        }
+        assertEquals(key, position.key());
+        assertEquals(0, position.depth());
+    }
+}
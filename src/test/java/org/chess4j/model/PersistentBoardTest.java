@@ -0,0 +1,72 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.chess4j.BitboardBoard;
+import org.chess4j.Board;
+import org.chess4j.EnumMapBoard;
+import org.chess4j.PersistentBoard;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.pieces.Pawn;
+import org.chess4j.pieces.Piece.Type;
+import org.chess4j.pieces.Queen;
+import org.chess4j.pieces.Rook;
+import org.junit.jupiter.api.Test;
+
+class PersistentBoardTest {
+
+    @Test
+    void derivedBoardsLeaveTheOriginalUnchanged() {
+        PersistentBoard initial = PersistentBoard.of(Board.newGame());
+        PersistentBoard moved = initial.move(Tile.e2, Tile.e4);
+        PersistentBoard captured = moved.without(Tile.d7).with(Tile.d7, Queen.white());
+
+        assertEquals(Board.newGame(), initial);
+        assertTrue(initial.get(Tile.e2) instanceof Pawn);
+        assertNull(moved.get(Tile.e2));
+        assertSame(initial.get(Tile.e2), moved.get(Tile.e4));
+        assertEquals(32, moved.size());
+        assertEquals(Queen.white(), captured.get(Tile.d7));
+        assertEquals(1L << Tile.d7.ordinal() | 1L << Tile.d1.ordinal(), captured.pieces(Color.WHITE, Type.QUEEN));
+        assertSame(moved, moved.without(Tile.e5));
+    }
+
+    @Test
+    void matchesBitboardBoard() {
+        Board expected = new BitboardBoard(Board.newGame());
+        expected.put(Tile.e4, expected.remove(Tile.e2));
+        expected.remove(Tile.h8);
+        expected.put(Tile.a6, Rook.black());
+        expected.put(Tile.d7, expected.remove(Tile.d1));
+        expected.put(Tile.e4, Queen.black());
+        PersistentBoard board = PersistentBoard.of(Board.newGame()).move(Tile.e2, Tile.e4).without(Tile.h8)
+                .with(Tile.a6, Rook.black()).move(Tile.d1, Tile.d7).with(Tile.e4, Queen.black());
+
+        assertEquals(expected, board);
+        assertEquals(board, expected);
+        assertEquals(new EnumMapBoard(expected), board);
+        assertEquals(expected.zobristKey(), board.zobristKey());
+        assertEquals(expected.hashCode(), board.hashCode());
+        assertEquals(expected.occupied(Color.BLACK), board.occupied(Color.BLACK));
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(board.keySet()));
+        assertEquals(board, PersistentBoard.of(Board.newGame()).derive(expected));
+        assertSame(board, Board.copy(board));
+    }
+
+    @Test
+    void rejectsModifications() {
+        PersistentBoard board = PersistentBoard.of(Board.newGame());
+        assertThrows(UnsupportedOperationException.class, () -> board.put(Tile.e4, Pawn.white()));
+        assertThrows(UnsupportedOperationException.class, () -> board.remove(Tile.e2));
+        assertThrows(UnsupportedOperationException.class, board::clear);
+        assertThrows(IllegalArgumentException.class, () -> board.move(Tile.e4, Tile.e5));
+        assertTrue(PersistentBoard.empty().isEmpty());
+    }
+}
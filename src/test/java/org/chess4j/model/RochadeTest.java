@@ -1,5 +1,6 @@
 package org.chess4j.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -100,4 +101,25 @@ class RochadeTest {
         Chronicle chronicle = new Chronicle(board);
         assertFalse(Rochade.isValid(Tile.e1, Tile.c1, chronicle));
     }
+
+    @Test
+    void castlingRightsFollowTheHistory() {
+        Board board = new EnumMapBoard();
+        board.put(Tile.e1, King.white());
+        board.put(Tile.a1, Rook.white());
+        board.put(Tile.h1, Rook.white());
+        board.put(Tile.e8, King.black());
+        board.put(Tile.h8, Rook.black());
+        Chronicle chronicle = new Chronicle(board);
+        assertEquals(Rochade.WHITE_SHORT | Rochade.WHITE_LONG | Rochade.BLACK_SHORT, chronicle.castlingRights());
+
+        // Capturing the rook on h1 removes the right of both sides to the h-file.
+        chronicle.add(SimpleMove.perform(Tile.h8, Tile.h1, chronicle.current()));
+        assertEquals(Rochade.WHITE_LONG, chronicle.castlingRights());
+        assertFalse(Rochade.isValid(Tile.e1, Tile.g1, chronicle));
+
+        chronicle.revert();
+        assertEquals(Rochade.WHITE_SHORT | Rochade.WHITE_LONG | Rochade.BLACK_SHORT, chronicle.castlingRights());
+        assertTrue(Rochade.isValid(Tile.e1, Tile.g1, chronicle));
+    }
 }
@@ -0,0 +1,89 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.chess4j.Board;
+import org.chess4j.Game;
+import org.chess4j.SimpleGame;
+import org.chess4j.Tile;
+import org.chess4j.exceptions.PawnNotPromotedException;
+import org.chess4j.pieces.Piece;
+import org.chess4j.pieces.Piece.Type;
+import org.junit.jupiter.api.Test;
+
+class SimpleGameTest {
+
+    /*
+     * Plays the given moves given as pairs of start and end tiles.
+     */
+    private static void play(Game game, Tile... tiles) {
+        for (int i = 0; i < tiles.length; i += 2) {
+            game.setStart(tiles[i]);
+            game.setEnd(tiles[i + 1]);
+            game.move();
+        }
+    }
+
+    @Test
+    void promotionKeepsEarlierBoards() {
+        Game game = new SimpleGame();
+        play(game, Tile.b2, Tile.b4, Tile.a7, Tile.a5, Tile.b4, Tile.a5, Tile.h7, Tile.h6, Tile.a5, Tile.a6,
+                Tile.h6, Tile.h5, Tile.a6, Tile.b7, Tile.h5, Tile.h4);
+        Board beforePromotion = game.position();
+        play(game, Tile.b7, Tile.a8);
+
+        assertTrue(game.canBePromoted());
+        game.setStart(Tile.h4);
+        game.setEnd(Tile.h3);
+        assertThrows(PawnNotPromotedException.class, game::move);
+
+        game.promote(Type.QUEEN);
+        assertFalse(game.canBePromoted());
+        assertTrue(Piece.isQueen(game.position().get(Tile.a8)));
+        assertTrue(Piece.isPawn(beforePromotion.get(Tile.b7)));
+        play(game, Tile.h4, Tile.h3);
+        assertEquals(Piece.of(game.playersTurn(), Type.QUEEN), game.position().get(Tile.a8));
+    }
+
+    @Test
+    void statusFollowsTheMoves() {
+        Game game = new SimpleGame();
+        assertEquals(Game.Status.ONGOING, game.status());
+        play(game, Tile.f2, Tile.f3, Tile.e7, Tile.e5, Tile.g2, Tile.g4);
+        assertFalse(game.gameOver());
+        play(game, Tile.d8, Tile.h4);
+
+        assertEquals(Game.Status.BLACK_WON, game.status());
+        assertTrue(game.gameOver());
+        assertTrue(game.hasBlackPlayerWon());
+        assertFalse(game.hasWhitePlayerWon());
+        assertFalse(game.isStalemate());
+    }
+
+    @Test
+    void repetitionsAreCountedAcrossTheGame() {
+        Game game = new SimpleGame();
+        play(game, Tile.g1, Tile.f3, Tile.g8, Tile.f6, Tile.f3, Tile.g1, Tile.f6, Tile.g8);
+        assertFalse(game.isThreefoldRepetition());
+        // The start position returns by another way, which the positions four and
+        // eight plies back do not show.
+        play(game, Tile.b1, Tile.c3, Tile.b8, Tile.c6, Tile.c3, Tile.b1, Tile.c6, Tile.b8);
+        assertTrue(game.isThreefoldRepetition());
+        assertEquals(Game.Status.THREEFOLD_REPETITION, game.status());
+    }
+
+    @Test
+    void halfmoveClockCountsFromPawnMovesAndCaptures() {
+        Game game = new SimpleGame();
+        play(game, Tile.g1, Tile.f3, Tile.b8, Tile.c6, Tile.f3, Tile.e5);
+        assertEquals(3, game.halfmoveClock());
+        play(game, Tile.c6, Tile.e5);
+        assertEquals(0, game.halfmoveClock());
+        play(game, Tile.b1, Tile.c3, Tile.d7, Tile.d6);
+        assertEquals(0, game.halfmoveClock());
+        assertFalse(game.isFiftyMoveRule());
+    }
+}
@@ -1,10 +1,15 @@
 package org.chess4j.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Collections;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
+import org.chess4j.Bitboards;
+import org.chess4j.Bitboards.Direction;
+import org.chess4j.Player;
 import org.chess4j.Tile;
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +44,36 @@ public class TileTest {
     void pathEmptyForNonStraightPaths() {
         assertEquals(Collections.emptySet(), Tile.path(Tile.b1, Tile.c3));
     }
+
+    @Test
+    void valueOfCoordinates() {
+        for (Tile tile : Tile.values()) {
+            assertEquals(tile, Tile.valueOf(tile.column(), tile.row()));
+            assertEquals(tile, Tile.ofOrdinal(tile.ordinal()));
+        }
+        assertThrows(NoSuchElementException.class, () -> Tile.valueOf(0, 1));
+        assertThrows(NoSuchElementException.class, () -> Tile.valueOf(1, 9));
+    }
+
+    @Test
+    void betweenMatchesPath() {
+        for (Tile start : Tile.values()) {
+            for (Tile end : Tile.values()) {
+                long mask = Tile.path(start, end).stream().mapToLong(Tile::mask).reduce(0L, (a, b) -> a | b);
+                assertEquals(mask, Bitboards.between(start, end));
+            }
+        }
+    }
+
+    @Test
+    void raysAndLeaperMasks() {
+        assertEquals(Tile.e5.mask() | Tile.e6.mask() | Tile.e7.mask() | Tile.e8.mask(),
+                Bitboards.ray(Direction.NORTH, Tile.e4));
+        assertEquals(Tile.b2.mask() | Tile.a1.mask(), Bitboards.ray(Direction.SOUTH_WEST, Tile.c3));
+        assertEquals(0L, Bitboards.ray(Direction.EAST, Tile.h4));
+        assertEquals(Tile.b3.mask() | Tile.c2.mask(), Bitboards.knightAttacks(Tile.a1));
+        assertEquals(8, Long.bitCount(Bitboards.kingAttacks(Tile.d4)));
+        assertEquals(Tile.d5.mask() | Tile.f5.mask(), Bitboards.pawnAttacks(Player.Color.WHITE, Tile.e4));
+        assertEquals(Tile.g3.mask(), Bitboards.pawnAttacks(Player.Color.BLACK, Tile.h4));
+    }
 }
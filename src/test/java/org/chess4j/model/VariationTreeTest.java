@@ -0,0 +1,139 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.chess4j.BitboardBoard;
+import org.chess4j.Board;
+import org.chess4j.Chronicle;
+import org.chess4j.Player.Color;
+import org.chess4j.Tile;
+import org.chess4j.VariationTree;
+import org.chess4j.VariationTree.Node;
+import org.chess4j.exceptions.InvalidMoveException;
+import org.chess4j.moves.Move.Kind;
+import org.chess4j.moves.PawnMove;
+import org.chess4j.moves.Rochade;
+import org.chess4j.pieces.King;
+import org.chess4j.pieces.Knight;
+import org.chess4j.pieces.Pawn;
+import org.chess4j.pieces.Piece.Type;
+import org.chess4j.pieces.Queen;
+import org.junit.jupiter.api.Test;
+
+class VariationTreeTest {
+
+    @Test
+    void variationsShareTheirPrefix() {
+        VariationTree tree = new VariationTree(Board.newGame());
+        Node e4 = tree.root().play(Tile.e2, Tile.e4);
+        Node e5 = e4.play(Tile.e7, Tile.e5);
+        Node nf3 = e5.play(Tile.g1, Tile.f3);
+        Node c5 = e4.play(Tile.c7, Tile.c5);
+
+        assertSame(e4, c5.parent());
+        assertEquals(List.of(e5, c5), e4.variations());
+        assertSame(e5, e4.play(Tile.e7, Tile.e5));
+        assertEquals(3, tree.mainLine().size());
+        assertEquals(2, c5.ply());
+        assertTrue(nf3.isMainLine());
+        assertFalse(c5.isMainLine());
+        assertEquals(e5.position(), nf3.move().initial());
+        assertThrows(InvalidMoveException.class, () -> c5.play(Tile.e7, Tile.e5));
+        assertThrows(IllegalArgumentException.class, () -> c5.add(nf3.move()));
+    }
+
+    @Test
+    void promoteAndPrune() {
+        VariationTree tree = new VariationTree(Board.newGame());
+        Node e4 = tree.root().play(Tile.e2, Tile.e4);
+        Node d4 = tree.root().play(Tile.d2, Tile.d4);
+        Node d5 = d4.play(Tile.d7, Tile.d5);
+
+        d5.promote();
+        assertTrue(d5.isMainLine());
+        assertEquals(List.of(d4, e4), tree.root().variations());
+        assertEquals(d5.line().toString(), tree.mainLine().toString());
+
+        d4.prune();
+        assertNull(d4.parent());
+        assertSame(e4, tree.root().next());
+        assertEquals(1, tree.mainLine().size());
+        assertThrows(IllegalStateException.class, () -> tree.root().prune());
+        assertThrows(IllegalStateException.class, d4::prune);
+        assertThrows(IllegalStateException.class, d5::promote);
+        assertThrows(IllegalStateException.class, d5::chronicle);
+    }
+
+    @Test
+    void playUsesTheStateOfTheNode() {
+        VariationTree tree = new VariationTree(Board.newGame());
+        Node node = tree.root();
+        Tile[] tiles = { Tile.e2, Tile.e4, Tile.a7, Tile.a6, Tile.e4, Tile.e5, Tile.d7, Tile.d5 };
+        for (int i = 0; i < tiles.length; i += 2) {
+            node = node.play(tiles[i], tiles[i + 1]);
+        }
+        Node capture = node.play(Tile.e5, Tile.d6);
+        assertEquals(Kind.EN_PASSANTE, capture.move().kind());
+        assertNull(capture.position().get(Tile.d5));
+        assertEquals(capture.position(), capture.chronicle().current());
+        assertEquals(Color.BLACK, capture.sideToMove());
+
+        Node late = node.play(Tile.g1, Tile.f3).play(Tile.h7, Tile.h6);
+        assertThrows(InvalidMoveException.class, () -> late.play(Tile.e5, Tile.d6));
+        assertThrows(InvalidMoveException.class, () -> late.play(Tile.h6, Tile.h5));
+    }
+
+    @Test
+    void promotionsArePlayedWithTheirType() {
+        Board board = new BitboardBoard();
+        board.put(Tile.e1, King.white());
+        board.put(Tile.h6, King.black());
+        board.put(Tile.a7, Pawn.white());
+        VariationTree tree = new VariationTree(board);
+        Node root = tree.root();
+
+        assertThrows(InvalidMoveException.class, () -> root.play(Tile.a7, Tile.a8));
+        assertThrows(InvalidMoveException.class, () -> root.play(Tile.e1, Tile.e2, Type.QUEEN));
+        Node queen = root.play(Tile.a7, Tile.a8, Type.QUEEN);
+        assertEquals(Queen.white(), queen.position().get(Tile.a8));
+        assertSame(queen, root.add(PawnMove.perform(Tile.a7, Tile.a8, board, Type.QUEEN)));
+        Node knight = root.add(PawnMove.perform(Tile.a7, Tile.a8, board, Type.KNIGHT));
+        assertEquals(Knight.white(), knight.position().get(Tile.a8));
+        assertEquals(2, root.variations().size());
+        assertEquals(queen.position(), queen.chronicle().current());
+        assertThrows(IllegalArgumentException.class, () -> root.add(PawnMove.perform(Tile.a7, Tile.a8, board)));
+    }
+
+    @Test
+    void addChecksTheSideToMove() {
+        VariationTree tree = new VariationTree(Board.newGame());
+        Node root = tree.root();
+        assertThrows(IllegalArgumentException.class,
+                () -> root.add(PawnMove.perform(Tile.e7, Tile.e6, Board.newGame())));
+        Node e3 = root.add(PawnMove.perform(Tile.e2, Tile.e3, Board.newGame()));
+        assertSame(e3, root.play(Tile.e2, Tile.e3));
+        assertEquals(Color.BLACK, e3.sideToMove());
+    }
+
+    @Test
+    void chronicleOfALine() {
+        VariationTree tree = new VariationTree(Board.newGame());
+        Node node = tree.root();
+        Tile[] tiles = { Tile.g1, Tile.f3, Tile.g8, Tile.f6, Tile.e2, Tile.e3, Tile.e7, Tile.e6, Tile.f1, Tile.e2,
+                Tile.f8, Tile.e7, Tile.e1, Tile.g1 };
+        for (int i = 0; i < tiles.length; i += 2) {
+            node = node.play(tiles[i], tiles[i + 1]);
+        }
+        Chronicle chronicle = node.chronicle();
+        assertEquals(7, chronicle.size());
+        assertEquals(node.position(), chronicle.current());
+        assertEquals(Rochade.BLACK_SHORT | Rochade.BLACK_LONG, chronicle.castlingRights());
+    }
+}
@@ -0,0 +1,90 @@
+package org.chess4j.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.HashMap;
+
+import org.chess4j.Board;
+import org.chess4j.Chronicle;
+import org.chess4j.EnumMapBoard;
+import org.chess4j.Player;
+import org.chess4j.Tile;
+import org.junit.jupiter.api.Test;
+
+class ZobristTest {
+
+    @Test
+    void incrementalKeyMatchesFullKey() {
+        Board board = Board.newGame();
+        board.put(Tile.e4, board.remove(Tile.e2));
+        board.put(Tile.d7, board.remove(Tile.b8));
+        assertEquals(new EnumMapBoard(board).zobristKey(), board.zobristKey());
+        assertEquals(new EnumMapBoard(board).hashCode(), board.hashCode());
+        assertEquals(new HashMap<>(board).hashCode(), board.hashCode());
+    }
+
+    @Test
+    void transpositionsHaveEqualKeys() {
+        Chronicle first = new Chronicle(Board.newGame());
+        Player.white(first).move(Tile.g1, Tile.f3);
+        Player.black(first).move(Tile.g8, Tile.f6);
+        Player.white(first).move(Tile.b1, Tile.c3);
+
+        Chronicle second = new Chronicle(first.get(0).initial());
+        Player.white(second).move(Tile.b1, Tile.c3);
+        Player.black(second).move(Tile.g8, Tile.f6);
+        Player.white(second).move(Tile.g1, Tile.f3);
+
+        assertEquals(first.current(), second.current());
+        assertEquals(first.positionKey(), second.positionKey());
+    }
+
+    @Test
+    void sideToMoveChangesKey() {
+        Chronicle first = new Chronicle(Board.newGame());
+        Player.white(first).move(Tile.g1, Tile.f3);
+        Player.black(first).move(Tile.g8, Tile.f6);
+        Player.white(first).move(Tile.f3, Tile.g1);
+        Player.black(first).move(Tile.f6, Tile.g8);
+        assertEquals(first.get(0).initial().zobristKey(), first.current().zobristKey());
+        assertEquals(first.get(0).initial(), first.current());
+
+        Player.white(first).move(Tile.g1, Tile.f3);
+        Chronicle second = new Chronicle(first.current());
+        assertNotEquals(first.positionKey(), second.positionKey());
+    }
+
+    @Test
+    void lostCastlingRightChangesKey() {
+        Chronicle first = new Chronicle(Board.newGame());
+        Player.white(first).move(Tile.g1, Tile.f3);
+        Player.black(first).move(Tile.g8, Tile.f6);
+        Player.white(first).move(Tile.h1, Tile.g1);
+        Player.black(first).move(Tile.f6, Tile.g8);
+        Player.white(first).move(Tile.g1, Tile.h1);
+        Player.black(first).move(Tile.b8, Tile.c6);
+
+        Chronicle second = new Chronicle(first.get(0).initial());
+        Player.white(second).move(Tile.g1, Tile.f3);
+        Player.black(second).move(Tile.b8, Tile.c6);
+
+        assertEquals(first.current(), second.current());
+        assertNotEquals(first.positionKey(), second.positionKey());
+    }
+
+    @Test
+    void revertedMovesAreNotRepeated() {
+        Chronicle chronicle = new Chronicle(Board.newGame());
+        assertEquals(1, chronicle.repetitions());
+        Player.white(chronicle).move(Tile.g1, Tile.f3);
+        Player.black(chronicle).move(Tile.g8, Tile.f6);
+        Player.white(chronicle).move(Tile.f3, Tile.g1);
+        Player.black(chronicle).move(Tile.f6, Tile.g8);
+        assertEquals(2, chronicle.repetitions());
+        chronicle.revert();
+        assertEquals(1, chronicle.repetitions());
+        Player.black(chronicle).move(Tile.f6, Tile.g8);
+        assertEquals(2, chronicle.repetitions());
+    }
+}